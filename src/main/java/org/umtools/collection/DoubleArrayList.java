@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.collection;
+
+import org.umtools.util.Asserts;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A growable list of {@code double} values backed by a primitive array, so no value is boxed.
+ * <p>
+ * Like {@link java.util.ArrayList}, the backing array grows by half its length when full.
+ * {@link #forEach(DoubleConsumer)} iterates without allocating an iterator.
+ * </p>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public class DoubleArrayList {
+
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private double[] elements;
+    private int size;
+
+    public DoubleArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list that holds {@code initialCapacity} values before growing.
+     *
+     * @param initialCapacity the initial capacity, not negative
+     */
+    public DoubleArrayList(int initialCapacity) {
+        Asserts.isTrue(initialCapacity >= 0, IllegalArgumentException.class, "Initial capacity cannot be negative");
+        this.elements = new double[initialCapacity];
+    }
+
+    /**
+     * Creates a list holding a copy of the given values.
+     *
+     * @param values the values
+     * @return the list
+     */
+    public static DoubleArrayList of(double... values) {
+        DoubleArrayList list = new DoubleArrayList(values.length);
+        list.addAll(values);
+        return list;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public double get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * Replaces the value at an index.
+     *
+     * @param index the index
+     * @param value the new value
+     * @return the previous value
+     */
+    public double set(int index, double value) {
+        checkIndex(index);
+        double previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    public void add(double value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * Inserts a value, shifting later values to the right.
+     *
+     * @param index the index to insert at, between 0 and {@link #size()}
+     * @param value the value
+     */
+    public void add(int index, double value) {
+        Objects.checkIndex(index, size + 1);
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+    }
+
+    public void addAll(double... values) {
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, elements, size, values.length);
+        size += values.length;
+    }
+
+    /**
+     * Removes the value at an index, shifting later values to the left.
+     *
+     * @param index the index
+     * @return the removed value
+     */
+    public double removeAt(int index) {
+        checkIndex(index);
+        double removed = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Finds the first occurrence of a value, compared as by {@link Double#compare(double, double)},
+     * so NaN can be found and 0.0 and -0.0 differ.
+     *
+     * @param value the value
+     * @return its index, -1 if absent
+     */
+    public int indexOf(double value) {
+        for (int i = 0; i < size; i++) {
+            if (Double.compare(elements[i], value) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(double value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Removes all values, keeping the capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Grows the backing array so it holds at least {@code minCapacity} values.
+     *
+     * @param minCapacity the required capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Shrinks the backing array to the current size.
+     */
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = Arrays.copyOf(elements, size);
+        }
+    }
+
+    /**
+     * Sorts the values in ascending order.
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    /**
+     * Passes every value to the action in order.
+     *
+     * @param action the action
+     */
+    public void forEach(DoubleConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    public double[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DoubleArrayList other)) {
+            return false;
+        }
+        return Arrays.equals(elements, 0, size, other.elements, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Double.hashCode(elements[i]);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private void grow(int minCapacity) {
+        Asserts.isTrue(minCapacity <= MAX_CAPACITY, IllegalStateException.class, "List cannot grow beyond %d values", MAX_CAPACITY);
+        int capacity = (int) Math.min(MAX_CAPACITY, Math.max(minCapacity, elements.length + (elements.length >> 1) + 1L));
+        elements = Arrays.copyOf(elements, capacity);
+    }
+
+    private void checkIndex(int index) {
+        Objects.checkIndex(index, size);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.collection;
+
+import org.umtools.util.Asserts;
+
+/**
+ * Sizing and hashing shared by the open-addressing maps.
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+final class HashTables {
+
+    private static final int INT_PHI = 0x9E3779B9;
+    private static final long LONG_PHI = 0x9E3779B97F4A7C15L;
+
+    private HashTables() {
+    }
+
+    /**
+     * Scrambles a key by multiplying with the golden ratio, then folds the high bits in,
+     * so keys that differ only in their high bits still land in different slots.
+     */
+    static int mix(int key) {
+        int hash = key * INT_PHI;
+        return hash ^ hash >>> 16;
+    }
+
+    static int mix(long key) {
+        long hash = key * LONG_PHI;
+        return (int) (hash ^ hash >>> 32);
+    }
+
+    /**
+     * Returns the smallest power-of-two capacity that holds {@code expectedSize} entries
+     * without exceeding the load factor.
+     */
+    static int capacityFor(int expectedSize, float loadFactor, int maxCapacity) {
+        long needed = Math.max(2, (long) Math.ceil(expectedSize / (double) loadFactor));
+        Asserts.isTrue(needed <= maxCapacity, IllegalArgumentException.class, "Expected size %d is too large", expectedSize);
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    /**
+     * Returns how many entries a table may hold before it must grow, always leaving at
+     * least one empty slot to end every probe.
+     */
+    static int maxFill(int capacity, float loadFactor) {
+        return Math.min(capacity - 1, (int) Math.ceil(capacity * (double) loadFactor));
+    }
+
+    /**
+     * Returns whether the entry at {@code slot}, whose home slot is {@code home}, may move
+     * back into the empty {@code gap}: only if its home is not cyclically within
+     * {@code (gap, slot]}, or it would become unreachable.
+     */
+    static boolean canFill(int gap, int home, int slot) {
+        if (gap <= slot) {
+            return home <= gap || home > slot;
+        }
+        return home <= gap && home > slot;
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.collection;
+
+import org.umtools.util.Asserts;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * A growable list of {@code int} values backed by a primitive array, so no value is boxed.
+ * <p>
+ * Like {@link java.util.ArrayList}, the backing array grows by half its length when full.
+ * {@link #forEach(IntConsumer)} iterates without allocating an iterator.
+ * </p>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public class IntArrayList {
+
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private int[] elements;
+    private int size;
+
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list that holds {@code initialCapacity} values before growing.
+     *
+     * @param initialCapacity the initial capacity, not negative
+     */
+    public IntArrayList(int initialCapacity) {
+        Asserts.isTrue(initialCapacity >= 0, IllegalArgumentException.class, "Initial capacity cannot be negative");
+        this.elements = new int[initialCapacity];
+    }
+
+    /**
+     * Creates a list holding a copy of the given values.
+     *
+     * @param values the values
+     * @return the list
+     */
+    public static IntArrayList of(int... values) {
+        IntArrayList list = new IntArrayList(values.length);
+        list.addAll(values);
+        return list;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * Replaces the value at an index.
+     *
+     * @param index the index
+     * @param value the new value
+     * @return the previous value
+     */
+    public int set(int index, int value) {
+        checkIndex(index);
+        int previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    public void add(int value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * Inserts a value, shifting later values to the right.
+     *
+     * @param index the index to insert at, between 0 and {@link #size()}
+     * @param value the value
+     */
+    public void add(int index, int value) {
+        Objects.checkIndex(index, size + 1);
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+    }
+
+    public void addAll(int... values) {
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, elements, size, values.length);
+        size += values.length;
+    }
+
+    /**
+     * Removes the value at an index, shifting later values to the left.
+     *
+     * @param index the index
+     * @return the removed value
+     */
+    public int removeAt(int index) {
+        checkIndex(index);
+        int removed = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Finds the first occurrence of a value.
+     *
+     * @param value the value
+     * @return its index, -1 if absent
+     */
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Removes all values, keeping the capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Grows the backing array so it holds at least {@code minCapacity} values.
+     *
+     * @param minCapacity the required capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Shrinks the backing array to the current size.
+     */
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = Arrays.copyOf(elements, size);
+        }
+    }
+
+    /**
+     * Sorts the values in ascending order.
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    /**
+     * Passes every value to the action in order.
+     *
+     * @param action the action
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IntArrayList other)) {
+            return false;
+        }
+        return Arrays.equals(elements, 0, size, other.elements, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + elements[i];
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private void grow(int minCapacity) {
+        Asserts.isTrue(minCapacity <= MAX_CAPACITY, IllegalStateException.class, "List cannot grow beyond %d values", MAX_CAPACITY);
+        int capacity = (int) Math.min(MAX_CAPACITY, Math.max(minCapacity, elements.length + (elements.length >> 1) + 1L));
+        elements = Arrays.copyOf(elements, capacity);
+    }
+
+    private void checkIndex(int index) {
+        Objects.checkIndex(index, size);
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.collection;
+
+import org.umtools.util.Asserts;
+
+import java.util.Arrays;
+
+/**
+ * A hash map from {@code int} keys to {@code int} values that never boxes.
+ * <p>
+ * Entries live in two parallel arrays indexed by open addressing with linear probing.
+ * Key 0 marks an empty slot, so the entry for key 0 itself is kept in a separate field.
+ * Removal shifts later entries of the probe run back instead of leaving tombstones, so
+ * lookups never slow down as entries come and go. The table doubles once the number of
+ * entries exceeds the load factor times its capacity.
+ * </p>
+ * <p>
+ * {@link #addTo(int, int)} updates a counter with a single probe, and
+ * {@link #forEach(IntIntConsumer)} iterates without allocating. Instances are not thread-safe.
+ * </p>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public class IntIntHashMap {
+
+    /**
+     * Default load factor, trading memory against probe length.
+     */
+    public static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final float loadFactor;
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int maxFill;
+    private int size;
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    public IntIntHashMap() {
+        this(DEFAULT_EXPECTED_SIZE, DEFAULT_LOAD_FACTOR);
+    }
+
+    public IntIntHashMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates a map that holds {@code expectedSize} entries before resizing.
+     *
+     * @param expectedSize the expected number of entries, not negative
+     * @param loadFactor   the maximum fraction of occupied slots, in (0, 1)
+     */
+    public IntIntHashMap(int expectedSize, float loadFactor) {
+        Asserts.isTrue(expectedSize >= 0, IllegalArgumentException.class, "Expected size cannot be negative");
+        Asserts.isTrue(loadFactor > 0 && loadFactor < 1, IllegalArgumentException.class, "Load factor must be between 0 and 1");
+        this.loadFactor = loadFactor;
+        allocate(HashTables.capacityFor(expectedSize, loadFactor, MAX_CAPACITY));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(int key) {
+        return key == 0 ? hasZeroKey : slotOf(key) >= 0;
+    }
+
+    /**
+     * Returns the value of a key.
+     *
+     * @param key          the key
+     * @param defaultValue the value returned if the key is absent
+     * @return the value, or {@code defaultValue}
+     */
+    public int getOrDefault(int key, int defaultValue) {
+        if (key == 0) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int slot = slotOf(key);
+        return slot >= 0 ? values[slot] : defaultValue;
+    }
+
+    /**
+     * Associates a value with a key, replacing any previous value.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public void put(int key, int value) {
+        if (key == 0) {
+            zeroValue = value;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            return;
+        }
+        int slot = HashTables.mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = slot + 1 & mask;
+        }
+        insertAt(slot, key, value);
+    }
+
+    /**
+     * Adds to the value of a key, treating an absent key as 0. This is the counting
+     * operation, and costs one probe sequence whether or not the key is present.
+     *
+     * @param key       the key
+     * @param increment the amount to add
+     * @return the new value
+     */
+    public int addTo(int key, int increment) {
+        if (key == 0) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue += increment;
+            return zeroValue;
+        }
+        int slot = HashTables.mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                values[slot] += increment;
+                return values[slot];
+            }
+            slot = slot + 1 & mask;
+        }
+        insertAt(slot, key, increment);
+        return increment;
+    }
+
+    /**
+     * Removes a key and its value.
+     *
+     * @param key the key
+     * @return true if the key was present
+     */
+    public boolean remove(int key) {
+        if (key == 0) {
+            if (!hasZeroKey) {
+                return false;
+            }
+            hasZeroKey = false;
+            zeroValue = 0;
+            size--;
+            return true;
+        }
+        int slot = slotOf(key);
+        if (slot < 0) {
+            return false;
+        }
+        shiftEntries(slot);
+        size--;
+        return true;
+    }
+
+    /**
+     * Removes all entries, keeping the capacity.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        hasZeroKey = false;
+        zeroValue = 0;
+        size = 0;
+    }
+
+    /**
+     * Passes every entry to the action, in no particular order.
+     *
+     * @param action the action
+     */
+    public void forEach(IntIntConsumer action) {
+        if (hasZeroKey) {
+            action.accept(0, zeroValue);
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0) {
+                action.accept(keys[slot], values[slot]);
+            }
+        }
+    }
+
+    private int slotOf(int key) {
+        int slot = HashTables.mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = slot + 1 & mask;
+        }
+        return -1;
+    }
+
+    private void insertAt(int slot, int key, int value) {
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > maxFill) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * Empties a slot by moving later entries of its probe run back into the gap, as long
+     * as that does not move an entry before its home slot.
+     */
+    private void shiftEntries(int emptied) {
+        int gap = emptied;
+        int slot = gap;
+        while (true) {
+            slot = slot + 1 & mask;
+            int key = keys[slot];
+            if (key == 0) {
+                keys[gap] = 0;
+                return;
+            }
+            int home = HashTables.mix(key) & mask;
+            if (HashTables.canFill(gap, home, slot)) {
+                keys[gap] = key;
+                values[gap] = values[slot];
+                gap = slot;
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        Asserts.isTrue(capacity <= MAX_CAPACITY, IllegalStateException.class, "Map cannot grow beyond %d slots", MAX_CAPACITY);
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != 0) {
+                int slot = HashTables.mix(key) & mask;
+                while (keys[slot] != 0) {
+                    slot = slot + 1 & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        maxFill = HashTables.maxFill(capacity, loadFactor);
+    }
+}
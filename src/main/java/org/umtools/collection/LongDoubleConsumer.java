@@ -0,0 +1,17 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.collection;
+
+/**
+ * An operation on a {@code long} key and {@code double} value, used to iterate a map without boxing.
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface LongDoubleConsumer {
+
+    void accept(long key, double value);
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Heap allocation and garbage collection activity observed while a benchmark ran.
+ * <p>
+ * Allocated bytes are read from {@code com.sun.management.ThreadMXBean} for the
+ * measuring thread only, and are reported as {@code -1} on JVMs that do not support it.
+ * GC counts and times are summed over all {@link GarbageCollectorMXBean}s, so they also
+ * include collections triggered by other threads.
+ * </p>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public class AllocationProfile {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final List<GarbageCollectorMXBean> GC_MX_BEANS = ManagementFactory.getGarbageCollectorMXBeans();
+
+    private final String name;
+    private final long operations;
+    private final long allocatedBytes;
+    private final long gcCount;
+    private final long gcTimeMillis;
+
+    public AllocationProfile(String name, long operations, long allocatedBytes, long gcCount, long gcTimeMillis) {
+        this.name = name;
+        this.operations = operations;
+        this.allocatedBytes = allocatedBytes;
+        this.gcCount = gcCount;
+        this.gcTimeMillis = gcTimeMillis;
+    }
+
+    /**
+     * Runs the action on the current thread and records its allocation and GC activity.
+     *
+     * @param name       the name to report
+     * @param operations number of operations the action performs, used for per-op figures
+     * @param action     the action to profile
+     * @return the profile of the action
+     */
+    public static AllocationProfile profile(String name, long operations, Runnable action) {
+        return profile(name, () -> {
+            action.run();
+            return operations;
+        });
+    }
+
+    /**
+     * Runs the action on the current thread and records its allocation and GC activity,
+     * dividing by the number of operations the action reports. Only the action itself is
+     * inside the sampled region, so it should leave allocating work such as formatting
+     * its results to the caller.
+     *
+     * @param name   the name to report
+     * @param action the action to profile, returning the number of operations it performed
+     * @return the profile of the action
+     */
+    public static AllocationProfile profile(String name, LongSupplier action) {
+        long gcCountBefore = totalGcCount();
+        long gcTimeBefore = totalGcTimeMillis();
+        long bytesBefore = currentThreadAllocatedBytes();
+
+        long operations = action.getAsLong();
+
+        long bytesAfter = currentThreadAllocatedBytes();
+        long allocated = bytesBefore < 0 || bytesAfter < 0 ? -1 : bytesAfter - bytesBefore;
+        return new AllocationProfile(name, operations, allocated,
+                totalGcCount() - gcCountBefore, totalGcTimeMillis() - gcTimeBefore);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getOperations() {
+        return operations;
+    }
+
+    /**
+     * Returns the total bytes allocated by the measuring thread.
+     *
+     * @return allocated bytes, -1 if unsupported by the JVM
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Returns the bytes allocated per operation.
+     *
+     * @return bytes per operation, -1 if unsupported by the JVM
+     */
+    public double getBytesPerOp() {
+        return allocatedBytes < 0 ? -1 : (double) allocatedBytes / Math.max(1, operations);
+    }
+
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    /**
+     * Returns the accumulated collection time reported by the collectors, which
+     * approximates the pause time for stop-the-world collectors.
+     *
+     * @return GC time in ms
+     */
+    public long getGcTimeMillis() {
+        return gcTimeMillis;
+    }
+
+    @Override
+    public String toString() {
+        String allocation = allocatedBytes < 0 ? "n/a" : String.format("%.1f B/op", getBytesPerOp());
+        return String.format("%s, %d GCs, %d ms GC time", allocation, gcCount, gcTimeMillis);
+    }
+
+    static long currentThreadAllocatedBytes() {
+        if (THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    static long totalGcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean bean : GC_MX_BEANS) {
+            count += Math.max(0, bean.getCollectionCount());
+        }
+        return count;
+    }
+
+    static long totalGcTimeMillis() {
+        long time = 0;
+        for (GarbageCollectorMXBean bean : GC_MX_BEANS) {
+            time += Math.max(0, bean.getCollectionTime());
+        }
+        return time;
+    }
+}
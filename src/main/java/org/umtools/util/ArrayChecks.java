@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+/**
+ * Bulk scans that find the first element of a primitive array failing a check.
+ * <p>
+ * Each method returns the index of the first failing element, or {@code -1} if every
+ * element passes. When the Vector API is available (see {@link VectorSupport}) the scan
+ * uses SIMD comparisons; otherwise it falls back to a scalar loop with the same results.
+ * </p>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public final class ArrayChecks {
+
+    private ArrayChecks() {
+
+    }
+
+    /**
+     * Finds the first element outside {@code [startInclusive, endInclusive]}. NaN is never in range.
+     *
+     * @param array          the array
+     * @param startInclusive the lower bound
+     * @param endInclusive   the upper bound
+     * @return the index of the first element out of range, -1 if none
+     */
+    public static int firstNotBetween(double[] array, double startInclusive, double endInclusive) {
+        if (VectorSupport.useVectors(array.length)) {
+            return VectorizedArrayChecks.firstNotBetween(array, startInclusive, endInclusive);
+        }
+        for (int i = 0; i < array.length; i++) {
+            if (!(array[i] >= startInclusive && array[i] <= endInclusive)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the first element outside {@code [startInclusive, endInclusive]}.
+     *
+     * @param array          the array
+     * @param startInclusive the lower bound
+     * @param endInclusive   the upper bound
+     * @return the index of the first element out of range, -1 if none
+     */
+    public static int firstNotBetween(int[] array, int startInclusive, int endInclusive) {
+        if (VectorSupport.useVectors(array.length)) {
+            return VectorizedArrayChecks.firstNotBetween(array, startInclusive, endInclusive);
+        }
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] < startInclusive || array[i] > endInclusive) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the first element that is NaN or infinite.
+     *
+     * @param array the array
+     * @return the index of the first non-finite element, -1 if none
+     */
+    public static int firstNonFinite(double[] array) {
+        if (VectorSupport.useVectors(array.length)) {
+            return VectorizedArrayChecks.firstNonFinite(array);
+        }
+        for (int i = 0; i < array.length; i++) {
+            if (!Double.isFinite(array[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the first element that is negative or NaN.
+     *
+     * @param array the array
+     * @return the index of the first such element, -1 if none
+     */
+    public static int firstNegative(double[] array) {
+        if (VectorSupport.useVectors(array.length)) {
+            return VectorizedArrayChecks.firstNegative(array);
+        }
+        for (int i = 0; i < array.length; i++) {
+            if (!(array[i] >= 0)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the first negative element.
+     *
+     * @param array the array
+     * @return the index of the first negative element, -1 if none
+     */
+    public static int firstNegative(int[] array) {
+        if (VectorSupport.useVectors(array.length)) {
+            return VectorizedArrayChecks.firstNegative(array);
+        }
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] < 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+/**
+ * Arithmetic and reduction kernels over whole primitive arrays.
+ * <p>
+ * When the Vector API is available (see {@link VectorSupport}) the kernels use SIMD
+ * operations; otherwise they fall back to scalar loops. Both paths return the same
+ * results, except that {@code double} sums and dot products add in a different order
+ * and may differ in the last bits. {@code int} sums and dot products are accumulated
+ * in {@code long}, so they do not overflow for arrays of any length that fits in memory
+ * unless the true result exceeds the {@code long} range. Element-wise {@code int}
+ * operations wrap on overflow, like the {@code +} and {@code *} operators.
+ * </p>
+ * <p>
+ * The destination of an element-wise operation may be one of its sources.
+ * </p>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public final class ArrayMath {
+
+    private ArrayMath() {
+
+    }
+
+    // ========================= Reductions =========================
+
+    /**
+     * Sums the elements of an array.
+     *
+     * @param array the array
+     * @return the sum, 0 for an empty array
+     */
+    public static long sum(int[] array) {
+        if (VectorSupport.useVectors(array.length)) {
+            return VectorizedArrayMath.sum(array);
+        }
+        return ScalarArrayMath.sum(array);
+    }
+
+    /**
+     * Sums the elements of an array.
+     *
+     * @param array the array
+     * @return the sum, 0 for an empty array
+     */
+    public static double sum(double[] array) {
+        if (VectorSupport.useVectors(array.length)) {
+            return VectorizedArrayMath.sum(array);
+        }
+        return ScalarArrayMath.sum(array);
+    }
+
+    /**
+     * Finds the smallest element of an array.
+     *
+     * @param array the array, not empty
+     * @return the minimum
+     */
+    public static int min(int[] array) {
+        checkNotEmpty(array.length);
+        if (VectorSupport.useVectors(array.length)) {
+            return VectorizedArrayMath.min(array);
+        }
+        return ScalarArrayMath.min(array);
+    }
+
+    /**
+     * Finds the smallest element of an array, as by {@link Math#min(double, double)}:
+     * NaN if any element is NaN, and -0.0 is smaller than 0.0.
+     *
+     * @param array the array, not empty
+     * @return the minimum
+     */
+    public static double min(double[] array) {
+        checkNotEmpty(array.length);
+        if (VectorSupport.useVectors(array.length)) {
+            return VectorizedArrayMath.min(array);
+        }
+        return ScalarArrayMath.min(array);
+    }
+
+    /**
+     * Finds the largest element of an array.
+     *
+     * @param array the array, not empty
+     * @return the maximum
+     */
+    public static int max(int[] array) {
+        checkNotEmpty(array.length);
+        if (VectorSupport.useVectors(array.length)) {
+            return VectorizedArrayMath.max(array);
+        }
+        return ScalarArrayMath.max(array);
+    }
+
+    /**
+     * Finds the largest element of an array, as by {@link Math#max(double, double)}:
+     * NaN if any element is NaN, and 0.0 is larger than -0.0.
+     *
+     * @param array the array, not empty
+     * @return the maximum
+     */
+    public static double max(double[] array) {
+        checkNotEmpty(array.length);
+        if (VectorSupport.useVectors(array.length)) {
+            return VectorizedArrayMath.max(array);
+        }
+        return ScalarArrayMath.max(array);
+    }
+
+    /**
+     * Finds the index of the first largest element of an array.
+     *
+     * @param array the array, not empty
+     * @return the index of the maximum
+     */
+    public static int argmax(int[] array) {
+        checkNotEmpty(array.length);
+        if (VectorSupport.useVectors(array.length)) {
+            return VectorizedArrayMath.argmax(array);
+        }
+        return ScalarArrayMath.argmax(array);
+    }
+
+    /**
+     * Finds the index of the first largest element of an array. NaN counts as larger
+     * than any number, and 0.0 and -0.0 tie.
+     *
+     * @param array the array, not empty
+     * @return the index of the maximum
+     */
+    public static int argmax(double[] array) {
+        checkNotEmpty(array.length);
+        if (VectorSupport.useVectors(array.length)) {
+            return VectorizedArrayMath.argmax(array);
+        }
+        return ScalarArrayMath.argmax(array);
+    }
+
+    /**
+     * Computes the dot product of two arrays.
+     *
+     * @param x the first array
+     * @param y the second array, of the same length
+     * @return the sum of {@code x[i] * y[i]}
+     */
+    public static long dot(int[] x, int[] y) {
+        checkSameLength(x.length, y.length);
+        if (VectorSupport.useVectors(x.length)) {
+            return VectorizedArrayMath.dot(x, y);
+        }
+        return ScalarArrayMath.dot(x, y);
+    }
+
+    /**
+     * Computes the dot product of two arrays.
+     *
+     * @param x the first array
+     * @param y the second array, of the same length
+     * @return the sum of {@code x[i] * y[i]}
+     */
+    public static double dot(double[] x, double[] y) {
+        checkSameLength(x.length, y.length);
+        if (VectorSupport.useVectors(x.length)) {
+            return VectorizedArrayMath.dot(x, y);
+        }
+        return ScalarArrayMath.dot(x, y);
+    }
+
+    // ========================= Element-wise =========================
+
+    /**
+     * Adds {@code a * x} to {@code y} in place.
+     *
+     * @param a the scale factor
+     * @param x the array to scale
+     * @param y the array to update, of the same length
+     */
+    public static void axpy(int a, int[] x, int[] y) {
+        checkSameLength(x.length, y.length);
+        if (VectorSupport.useVectors(x.length)) {
+            VectorizedArrayMath.axpy(a, x, y);
+        } else {
+            ScalarArrayMath.axpy(a, x, y);
+        }
+    }
+
+    /**
+     * Adds {@code a * x} to {@code y} in place.
+     *
+     * @param a the scale factor
+     * @param x the array to scale
+     * @param y the array to update, of the same length
+     */
+    public static void axpy(double a, double[] x, double[] y) {
+        checkSameLength(x.length, y.length);
+        if (VectorSupport.useVectors(x.length)) {
+            VectorizedArrayMath.axpy(a, x, y);
+        } else {
+            ScalarArrayMath.axpy(a, x, y);
+        }
+    }
+
+    /**
+     * Stores {@code x[i] + y[i]} into {@code dest[i]}.
+     *
+     * @param x    the first array
+     * @param y    the second array, of the same length
+     * @param dest the destination, of the same length
+     */
+    public static void add(int[] x, int[] y, int[] dest) {
+        checkSameLength(x.length, y.length);
+        checkSameLength(x.length, dest.length);
+        if (VectorSupport.useVectors(x.length)) {
+            VectorizedArrayMath.add(x, y, dest);
+        } else {
+            ScalarArrayMath.add(x, y, dest);
+        }
+    }
+
+    /**
+     * Stores {@code x[i] + y[i]} into {@code dest[i]}.
+     *
+     * @param x    the first array
+     * @param y    the second array, of the same length
+     * @param dest the destination, of the same length
+     */
+    public static void add(double[] x, double[] y, double[] dest) {
+        checkSameLength(x.length, y.length);
+        checkSameLength(x.length, dest.length);
+        if (VectorSupport.useVectors(x.length)) {
+            VectorizedArrayMath.add(x, y, dest);
+        } else {
+            ScalarArrayMath.add(x, y, dest);
+        }
+    }
+
+    /**
+     * Stores {@code x[i] * y[i]} into {@code dest[i]}.
+     *
+     * @param x    the first array
+     * @param y    the second array, of the same length
+     * @param dest the destination, of the same length
+     */
+    public static void multiply(int[] x, int[] y, int[] dest) {
+        checkSameLength(x.length, y.length);
+        checkSameLength(x.length, dest.length);
+        if (VectorSupport.useVectors(x.length)) {
+            VectorizedArrayMath.multiply(x, y, dest);
+        } else {
+            ScalarArrayMath.multiply(x, y, dest);
+        }
+    }
+
+    /**
+     * Stores {@code x[i] * y[i]} into {@code dest[i]}.
+     *
+     * @param x    the first array
+     * @param y    the second array, of the same length
+     * @param dest the destination, of the same length
+     */
+    public static void multiply(double[] x, double[] y, double[] dest) {
+        checkSameLength(x.length, y.length);
+        checkSameLength(x.length, dest.length);
+        if (VectorSupport.useVectors(x.length)) {
+            VectorizedArrayMath.multiply(x, y, dest);
+        } else {
+            ScalarArrayMath.multiply(x, y, dest);
+        }
+    }
+
+    /**
+     * Sets every element of an array to a value.
+     *
+     * @param array the array
+     * @param value the value
+     */
+    public static void fill(int[] array, int value) {
+        if (VectorSupport.useVectors(array.length)) {
+            VectorizedArrayMath.fill(array, value);
+        } else {
+            ScalarArrayMath.fill(array, value);
+        }
+    }
+
+    /**
+     * Sets every element of an array to a value.
+     *
+     * @param array the array
+     * @param value the value
+     */
+    public static void fill(double[] array, double value) {
+        if (VectorSupport.useVectors(array.length)) {
+            VectorizedArrayMath.fill(array, value);
+        } else {
+            ScalarArrayMath.fill(array, value);
+        }
+    }
+
+    /**
+     * Stores {@code factor * source[i]} into {@code dest[i]}.
+     *
+     * @param source the array to copy
+     * @param factor the scale factor
+     * @param dest   the destination, of the same length
+     */
+    public static void scaledCopy(int[] source, int factor, int[] dest) {
+        checkSameLength(source.length, dest.length);
+        if (VectorSupport.useVectors(source.length)) {
+            VectorizedArrayMath.scaledCopy(source, factor, dest);
+        } else {
+            ScalarArrayMath.scaledCopy(source, factor, dest);
+        }
+    }
+
+    /**
+     * Stores {@code factor * source[i]} into {@code dest[i]}.
+     *
+     * @param source the array to copy
+     * @param factor the scale factor
+     * @param dest   the destination, of the same length
+     */
+    public static void scaledCopy(double[] source, double factor, double[] dest) {
+        checkSameLength(source.length, dest.length);
+        if (VectorSupport.useVectors(source.length)) {
+            VectorizedArrayMath.scaledCopy(source, factor, dest);
+        } else {
+            ScalarArrayMath.scaledCopy(source, factor, dest);
+        }
+    }
+
+    private static void checkNotEmpty(int length) {
+        Asserts.isTrue(length > 0, IllegalArgumentException.class, "Array cannot be empty");
+    }
+
+    private static void checkSameLength(int length, int otherLength) {
+        if (otherLength != length) {
+            throw new IllegalArgumentException(String.format("Array lengths differ: %d and %d", length, otherLength));
+        }
+    }
+}
@@ -4,7 +4,33 @@
  */
 package org.umtools.util;
 
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Utility class for in-place operations on primitive arrays.
+ * <p>
+ * Besides {@code swap}, it provides selection (nth element), three-way partition,
+ * top-k and range sort kernels for {@code int[]}, {@code long[]} and {@code double[]}
+ * that never box. Each kernel has a {@code parallel} variant that uses the common
+ * fork-join pool for ranges of at least {@value #PARALLEL_THRESHOLD} elements and
+ * runs sequentially below that. {@code double} values are ordered as by
+ * {@link Double#compare(double, double)}.
+ * </p>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
 public class ArrayUtils {
+
+    /**
+     * Smallest range the parallel kernels split across threads.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private static final int MIN_BLOCK_SIZE = 1 << 13;
+
     private ArrayUtils() {
 
     }
@@ -35,4 +61,985 @@ public class ArrayUtils {
         array[i] = array[j];
         array[j] = temp;
     }
+
+    /**
+     * Swap two elements in an array
+     *
+     * @param array the array
+     * @param i     index of the first element
+     * @param j     index of the second element
+     */
+    public static void swap(long[] array, int i, int j) {
+        long temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    // ========================= int[] Kernels =========================
+
+    /**
+     * Rearranges {@code array[from, to)} so that {@code array[k]} holds the element that
+     * would be there if the range were sorted, with no greater element before it and no
+     * smaller element after it. Runs in expected O(n), falling back to sorting the range
+     * if partitioning degrades.
+     *
+     * @param array the array
+     * @param from  index of the first element, inclusive
+     * @param to    index of the last element, exclusive
+     * @param k     index of the element to select, within the range
+     * @return the selected element
+     * @since 1.0
+     */
+    public static int select(int[] array, int from, int to, int k) {
+        checkSelection(array.length, from, to, k);
+        selectRange(array, from, to - 1, k, maxPartitionRounds(to - from));
+        return array[k];
+    }
+
+    /**
+     * Selects the {@code k}-th smallest element of the whole array, e.g. the median at
+     * {@code k = array.length / 2}.
+     *
+     * @param array the array
+     * @param k     index of the element to select
+     * @return the selected element
+     * @see #select(int[], int, int, int)
+     * @since 1.0
+     */
+    public static int select(int[] array, int k) {
+        return select(array, 0, array.length, k);
+    }
+
+    /**
+     * Parallel variant of {@link #select(int[], int, int, int)}. Ranges of at least
+     * {@value #PARALLEL_THRESHOLD} elements are partitioned with {@link #parallelPartition3}
+     * on the common fork-join pool until the remaining range is small enough to finish sequentially.
+     *
+     * @param array the array
+     * @param from  index of the first element, inclusive
+     * @param to    index of the last element, exclusive
+     * @param k     index of the element to select, within the range
+     * @return the selected element
+     * @since 1.0
+     */
+    public static int parallelSelect(int[] array, int from, int to, int k) {
+        checkSelection(array.length, from, to, k);
+        int lo = from;
+        int hi = to - 1;
+        int rounds = maxPartitionRounds(to - from);
+        while (hi - lo + 1 >= PARALLEL_THRESHOLD) {
+            if (rounds-- == 0) {
+                Arrays.parallelSort(array, lo, hi + 1);
+                return array[k];
+            }
+            int[] bounds = parallelPartition3(array, lo, hi + 1, medianOfThree(array, lo, hi));
+            if (k < bounds[0]) {
+                hi = bounds[0] - 1;
+            } else if (k >= bounds[1]) {
+                lo = bounds[1];
+            } else {
+                return array[k];
+            }
+        }
+        selectRange(array, lo, hi, k, rounds);
+        return array[k];
+    }
+
+    /**
+     * Three-way partitions {@code array[from, to)} around the pivot in place: elements less
+     * than the pivot first, then elements equal to it, then greater elements.
+     *
+     * @param array the array
+     * @param from  index of the first element, inclusive
+     * @param to    index of the last element, exclusive
+     * @param pivot the pivot value
+     * @return {@code {lessEnd, greaterStart}}, the bounds of the elements equal to the pivot
+     * @since 1.0
+     */
+    public static int[] partition3(int[] array, int from, int to, int pivot) {
+        checkRange(array.length, from, to);
+        int lt = from;
+        int i = from;
+        int gt = to - 1;
+        while (i <= gt) {
+            if (less(array[i], pivot)) {
+                swap(array, lt++, i++);
+            } else if (less(pivot, array[i])) {
+                swap(array, i, gt--);
+            } else {
+                i++;
+            }
+        }
+        return new int[]{lt, gt + 1};
+    }
+
+    /**
+     * Parallel variant of {@link #partition3(int[], int, int, int)}. Each block of the range
+     * is counted and then scattered into a temporary buffer on the common fork-join pool,
+     * which keeps the relative order within each part. Smaller ranges are partitioned sequentially.
+     *
+     * @param array the array
+     * @param from  index of the first element, inclusive
+     * @param to    index of the last element, exclusive
+     * @param pivot the pivot value
+     * @return {@code {lessEnd, greaterStart}}, the bounds of the elements equal to the pivot
+     * @since 1.0
+     */
+    public static int[] parallelPartition3(int[] array, int from, int to, int pivot) {
+        checkRange(array.length, from, to);
+        int length = to - from;
+        if (length < PARALLEL_THRESHOLD) {
+            return partition3(array, from, to, pivot);
+        }
+        int blocks = blockCount(length);
+        int blockSize = (length + blocks - 1) / blocks;
+        int[] lessCounts = new int[blocks];
+        int[] equalCounts = new int[blocks];
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            int end = Math.min(to, from + (b + 1) * blockSize);
+            for (int i = from + b * blockSize; i < end; i++) {
+                if (less(array[i], pivot)) {
+                    lessCounts[b]++;
+                } else if (!less(pivot, array[i])) {
+                    equalCounts[b]++;
+                }
+            }
+        });
+
+        int[][] offsets = scatterOffsets(lessCounts, equalCounts, length, blockSize);
+        int[] buffer = new int[length];
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            int lessAt = offsets[0][b];
+            int equalAt = offsets[1][b];
+            int greaterAt = offsets[2][b];
+            int end = Math.min(to, from + (b + 1) * blockSize);
+            for (int i = from + b * blockSize; i < end; i++) {
+                if (less(array[i], pivot)) {
+                    buffer[lessAt++] = array[i];
+                } else if (less(pivot, array[i])) {
+                    buffer[greaterAt++] = array[i];
+                } else {
+                    buffer[equalAt++] = array[i];
+                }
+            }
+        });
+        System.arraycopy(buffer, 0, array, from, length);
+        return new int[]{from + offsets[1][0], from + offsets[2][0]};
+    }
+
+    /**
+     * Returns the {@code k} largest elements in descending order, using a primitive
+     * min-heap of size {@code k} so the input is scanned once and never boxed.
+     *
+     * @param array the array, which is not modified
+     * @param k     number of elements, at most the array length
+     * @return the {@code k} largest elements, largest first
+     * @since 1.0
+     */
+    public static int[] topK(int[] array, int k) {
+        checkTopK(array.length, k);
+        return topK(array, 0, array.length, k);
+    }
+
+    /**
+     * Parallel variant of {@link #topK(int[], int)}. Arrays of at least
+     * {@value #PARALLEL_THRESHOLD} elements are split into blocks whose top {@code k}
+     * are found on the common fork-join pool and then merged.
+     *
+     * @param array the array, which is not modified
+     * @param k     number of elements, at most the array length
+     * @return the {@code k} largest elements, largest first
+     * @since 1.0
+     */
+    public static int[] parallelTopK(int[] array, int k) {
+        checkTopK(array.length, k);
+        if (array.length < PARALLEL_THRESHOLD) {
+            return topK(array, 0, array.length, k);
+        }
+        int blocks = blockCount(array.length);
+        int blockSize = (array.length + blocks - 1) / blocks;
+        int[][] partial = IntStream.range(0, blocks).parallel()
+                .mapToObj(b -> {
+                    int from = b * blockSize;
+                    int to = Math.min(array.length, from + blockSize);
+                    return topK(array, from, to, Math.min(k, to - from));
+                })
+                .toArray(int[][]::new);
+        int[] candidates = Arrays.stream(partial).flatMapToInt(Arrays::stream).toArray();
+        return topK(candidates, 0, candidates.length, k);
+    }
+
+    /**
+     * Sorts {@code array[from, to)} in ascending order.
+     *
+     * @param array the array
+     * @param from  index of the first element, inclusive
+     * @param to    index of the last element, exclusive
+     * @since 1.0
+     */
+    public static void sort(int[] array, int from, int to) {
+        checkRange(array.length, from, to);
+        Arrays.sort(array, from, to);
+    }
+
+    /**
+     * Sorts {@code array[from, to)} in ascending order on the common fork-join pool,
+     * sequentially for small ranges.
+     *
+     * @param array the array
+     * @param from  index of the first element, inclusive
+     * @param to    index of the last element, exclusive
+     * @since 1.0
+     */
+    public static void parallelSort(int[] array, int from, int to) {
+        checkRange(array.length, from, to);
+        Arrays.parallelSort(array, from, to);
+    }
+
+    private static void selectRange(int[] array, int lo, int hi, int k, int rounds) {
+        while (hi > lo) {
+            if (rounds-- == 0) {
+                Arrays.sort(array, lo, hi + 1);
+                return;
+            }
+            int[] bounds = partition3(array, lo, hi + 1, medianOfThree(array, lo, hi));
+            if (k < bounds[0]) {
+                hi = bounds[0] - 1;
+            } else if (k >= bounds[1]) {
+                lo = bounds[1];
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static int medianOfThree(int[] array, int lo, int hi) {
+        int a = array[lo];
+        int b = array[lo + (hi - lo) / 2];
+        int c = array[hi];
+        if (less(a, b)) {
+            return less(b, c) ? b : less(a, c) ? c : a;
+        }
+        return less(a, c) ? a : less(b, c) ? c : b;
+    }
+
+    private static int[] topK(int[] array, int from, int to, int k) {
+        int[] heap = new int[k];
+        int size = 0;
+        for (int i = from; i < to; i++) {
+            int value = array[i];
+            if (size < k) {
+                heap[size] = value;
+                siftUp(heap, size++);
+            } else if (k > 0 && less(heap[0], value)) {
+                heap[0] = value;
+                siftDown(heap, 0, k);
+            }
+        }
+        Arrays.sort(heap);
+        for (int i = 0, j = k - 1; i < j; i++, j--) {
+            swap(heap, i, j);
+        }
+        return heap;
+    }
+
+    static void siftUp(int[] heap, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!less(heap[index], heap[parent])) {
+                return;
+            }
+            swap(heap, index, parent);
+            index = parent;
+        }
+    }
+
+    static void siftDown(int[] heap, int index, int size) {
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && less(heap[left], heap[smallest])) {
+                smallest = left;
+            }
+            if (right < size && less(heap[right], heap[smallest])) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(heap, index, smallest);
+            index = smallest;
+        }
+    }
+
+    private static boolean less(int a, int b) {
+        return a < b;
+    }
+
+    // ========================= long[] Kernels =========================
+
+    /**
+     * Rearranges {@code array[from, to)} so that {@code array[k]} holds the element that
+     * would be there if the range were sorted, with no greater element before it and no
+     * smaller element after it. Runs in expected O(n), falling back to sorting the range
+     * if partitioning degrades.
+     *
+     * @param array the array
+     * @param from  index of the first element, inclusive
+     * @param to    index of the last element, exclusive
+     * @param k     index of the element to select, within the range
+     * @return the selected element
+     * @since 1.0
+     */
+    public static long select(long[] array, int from, int to, int k) {
+        checkSelection(array.length, from, to, k);
+        selectRange(array, from, to - 1, k, maxPartitionRounds(to - from));
+        return array[k];
+    }
+
+    /**
+     * Selects the {@code k}-th smallest element of the whole array, e.g. the median at
+     * {@code k = array.length / 2}.
+     *
+     * @param array the array
+     * @param k     index of the element to select
+     * @return the selected element
+     * @see #select(long[], int, int, int)
+     * @since 1.0
+     */
+    public static long select(long[] array, int k) {
+        return select(array, 0, array.length, k);
+    }
+
+    /**
+     * Parallel variant of {@link #select(long[], int, int, int)}. Ranges of at least
+     * {@value #PARALLEL_THRESHOLD} elements are partitioned with {@link #parallelPartition3}
+     * on the common fork-join pool until the remaining range is small enough to finish sequentially.
+     *
+     * @param array the array
+     * @param from  index of the first element, inclusive
+     * @param to    index of the last element, exclusive
+     * @param k     index of the element to select, within the range
+     * @return the selected element
+     * @since 1.0
+     */
+    public static long parallelSelect(long[] array, int from, int to, int k) {
+        checkSelection(array.length, from, to, k);
+        int lo = from;
+        int hi = to - 1;
+        int rounds = maxPartitionRounds(to - from);
+        while (hi - lo + 1 >= PARALLEL_THRESHOLD) {
+            if (rounds-- == 0) {
+                Arrays.parallelSort(array, lo, hi + 1);
+                return array[k];
+            }
+            int[] bounds = parallelPartition3(array, lo, hi + 1, medianOfThree(array, lo, hi));
+            if (k < bounds[0]) {
+                hi = bounds[0] - 1;
+            } else if (k >= bounds[1]) {
+                lo = bounds[1];
+            } else {
+                return array[k];
+            }
+        }
+        selectRange(array, lo, hi, k, rounds);
+        return array[k];
+    }
+
+    /**
+     * Three-way partitions {@code array[from, to)} around the pivot in place: elements less
+     * than the pivot first, then elements equal to it, then greater elements.
+     *
+     * @param array the array
+     * @param from  index of the first element, inclusive
+     * @param to    index of the last element, exclusive
+     * @param pivot the pivot value
+     * @return {@code {lessEnd, greaterStart}}, the bounds of the elements equal to the pivot
+     * @since 1.0
+     */
+    public static int[] partition3(long[] array, int from, int to, long pivot) {
+        checkRange(array.length, from, to);
+        int lt = from;
+        int i = from;
+        int gt = to - 1;
+        while (i <= gt) {
+            if (less(array[i], pivot)) {
+                swap(array, lt++, i++);
+            } else if (less(pivot, array[i])) {
+                swap(array, i, gt--);
+            } else {
+                i++;
+            }
+        }
+        return new int[]{lt, gt + 1};
+    }
+
+    /**
+     * Parallel variant of {@link #partition3(long[], int, int, long)}. Each block of the range
+     * is counted and then scattered into a temporary buffer on the common fork-join pool,
+     * which keeps the relative order within each part. Smaller ranges are partitioned sequentially.
+     *
+     * @param array the array
+     * @param from  index of the first element, inclusive
+     * @param to    index of the last element, exclusive
+     * @param pivot the pivot value
+     * @return {@code {lessEnd, greaterStart}}, the bounds of the elements equal to the pivot
+     * @since 1.0
+     */
+    public static int[] parallelPartition3(long[] array, int from, int to, long pivot) {
+        checkRange(array.length, from, to);
+        int length = to - from;
+        if (length < PARALLEL_THRESHOLD) {
+            return partition3(array, from, to, pivot);
+        }
+        int blocks = blockCount(length);
+        int blockSize = (length + blocks - 1) / blocks;
+        int[] lessCounts = new int[blocks];
+        int[] equalCounts = new int[blocks];
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            int end = Math.min(to, from + (b + 1) * blockSize);
+            for (int i = from + b * blockSize; i < end; i++) {
+                if (less(array[i], pivot)) {
+                    lessCounts[b]++;
+                } else if (!less(pivot, array[i])) {
+                    equalCounts[b]++;
+                }
+            }
+        });
+
+        int[][] offsets = scatterOffsets(lessCounts, equalCounts, length, blockSize);
+        long[] buffer = new long[length];
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            int lessAt = offsets[0][b];
+            int equalAt = offsets[1][b];
+            int greaterAt = offsets[2][b];
+            int end = Math.min(to, from + (b + 1) * blockSize);
+            for (int i = from + b * blockSize; i < end; i++) {
+                if (less(array[i], pivot)) {
+                    buffer[lessAt++] = array[i];
+                } else if (less(pivot, array[i])) {
+                    buffer[greaterAt++] = array[i];
+                } else {
+                    buffer[equalAt++] = array[i];
+                }
+            }
+        });
+        System.arraycopy(buffer, 0, array, from, length);
+        return new int[]{from + offsets[1][0], from + offsets[2][0]};
+    }
+
+    /**
+     * Returns the {@code k} largest elements in descending order, using a primitive
+     * min-heap of size {@code k} so the input is scanned once and never boxed.
+     *
+     * @param array the array, which is not modified
+     * @param k     number of elements, at most the array length
+     * @return the {@code k} largest elements, largest first
+     * @since 1.0
+     */
+    public static long[] topK(long[] array, int k) {
+        checkTopK(array.length, k);
+        return topK(array, 0, array.length, k);
+    }
+
+    /**
+     * Parallel variant of {@link #topK(long[], int)}. Arrays of at least
+     * {@value #PARALLEL_THRESHOLD} elements are split into blocks whose top {@code k}
+     * are found on the common fork-join pool and then merged.
+     *
+     * @param array the array, which is not modified
+     * @param k     number of elements, at most the array length
+     * @return the {@code k} largest elements, largest first
+     * @since 1.0
+     */
+    public static long[] parallelTopK(long[] array, int k) {
+        checkTopK(array.length, k);
+        if (array.length < PARALLEL_THRESHOLD) {
+            return topK(array, 0, array.length, k);
+        }
+        int blocks = blockCount(array.length);
+        int blockSize = (array.length + blocks - 1) / blocks;
+        long[][] partial = IntStream.range(0, blocks).parallel()
+                .mapToObj(b -> {
+                    int from = b * blockSize;
+                    int to = Math.min(array.length, from + blockSize);
+                    return topK(array, from, to, Math.min(k, to - from));
+                })
+                .toArray(long[][]::new);
+        long[] candidates = Arrays.stream(partial).flatMapToLong(Arrays::stream).toArray();
+        return topK(candidates, 0, candidates.length, k);
+    }
+
+    /**
+     * Sorts {@code array[from, to)} in ascending order.
+     *
+     * @param array the array
+     * @param from  index of the first element, inclusive
+     * @param to    index of the last element, exclusive
+     * @since 1.0
+     */
+    public static void sort(long[] array, int from, int to) {
+        checkRange(array.length, from, to);
+        Arrays.sort(array, from, to);
+    }
+
+    /**
+     * Sorts {@code array[from, to)} in ascending order on the common fork-join pool,
+     * sequentially for small ranges.
+     *
+     * @param array the array
+     * @param from  index of the first element, inclusive
+     * @param to    index of the last element, exclusive
+     * @since 1.0
+     */
+    public static void parallelSort(long[] array, int from, int to) {
+        checkRange(array.length, from, to);
+        Arrays.parallelSort(array, from, to);
+    }
+
+    private static void selectRange(long[] array, int lo, int hi, int k, int rounds) {
+        while (hi > lo) {
+            if (rounds-- == 0) {
+                Arrays.sort(array, lo, hi + 1);
+                return;
+            }
+            int[] bounds = partition3(array, lo, hi + 1, medianOfThree(array, lo, hi));
+            if (k < bounds[0]) {
+                hi = bounds[0] - 1;
+            } else if (k >= bounds[1]) {
+                lo = bounds[1];
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static long medianOfThree(long[] array, int lo, int hi) {
+        long a = array[lo];
+        long b = array[lo + (hi - lo) / 2];
+        long c = array[hi];
+        if (less(a, b)) {
+            return less(b, c) ? b : less(a, c) ? c : a;
+        }
+        return less(a, c) ? a : less(b, c) ? c : b;
+    }
+
+    private static long[] topK(long[] array, int from, int to, int k) {
+        long[] heap = new long[k];
+        int size = 0;
+        for (int i = from; i < to; i++) {
+            long value = array[i];
+            if (size < k) {
+                heap[size] = value;
+                siftUp(heap, size++);
+            } else if (k > 0 && less(heap[0], value)) {
+                heap[0] = value;
+                siftDown(heap, 0, k);
+            }
+        }
+        Arrays.sort(heap);
+        for (int i = 0, j = k - 1; i < j; i++, j--) {
+            swap(heap, i, j);
+        }
+        return heap;
+    }
+
+    private static void siftUp(long[] heap, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!less(heap[index], heap[parent])) {
+                return;
+            }
+            swap(heap, index, parent);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(long[] heap, int index, int size) {
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && less(heap[left], heap[smallest])) {
+                smallest = left;
+            }
+            if (right < size && less(heap[right], heap[smallest])) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(heap, index, smallest);
+            index = smallest;
+        }
+    }
+
+    private static boolean less(long a, long b) {
+        return a < b;
+    }
+
+    // ========================= double[] Kernels =========================
+
+    /**
+     * Rearranges {@code array[from, to)} so that {@code array[k]} holds the element that
+     * would be there if the range were sorted, with no greater element before it and no
+     * smaller element after it. Runs in expected O(n), falling back to sorting the range
+     * if partitioning degrades.
+     *
+     * @param array the array
+     * @param from  index of the first element, inclusive
+     * @param to    index of the last element, exclusive
+     * @param k     index of the element to select, within the range
+     * @return the selected element
+     * @since 1.0
+     */
+    public static double select(double[] array, int from, int to, int k) {
+        checkSelection(array.length, from, to, k);
+        selectRange(array, from, to - 1, k, maxPartitionRounds(to - from));
+        return array[k];
+    }
+
+    /**
+     * Selects the {@code k}-th smallest element of the whole array, e.g. the median at
+     * {@code k = array.length / 2}.
+     *
+     * @param array the array
+     * @param k     index of the element to select
+     * @return the selected element
+     * @see #select(double[], int, int, int)
+     * @since 1.0
+     */
+    public static double select(double[] array, int k) {
+        return select(array, 0, array.length, k);
+    }
+
+    /**
+     * Parallel variant of {@link #select(double[], int, int, int)}. Ranges of at least
+     * {@value #PARALLEL_THRESHOLD} elements are partitioned with {@link #parallelPartition3}
+     * on the common fork-join pool until the remaining range is small enough to finish sequentially.
+     *
+     * @param array the array
+     * @param from  index of the first element, inclusive
+     * @param to    index of the last element, exclusive
+     * @param k     index of the element to select, within the range
+     * @return the selected element
+     * @since 1.0
+     */
+    public static double parallelSelect(double[] array, int from, int to, int k) {
+        checkSelection(array.length, from, to, k);
+        int lo = from;
+        int hi = to - 1;
+        int rounds = maxPartitionRounds(to - from);
+        while (hi - lo + 1 >= PARALLEL_THRESHOLD) {
+            if (rounds-- == 0) {
+                Arrays.parallelSort(array, lo, hi + 1);
+                return array[k];
+            }
+            int[] bounds = parallelPartition3(array, lo, hi + 1, medianOfThree(array, lo, hi));
+            if (k < bounds[0]) {
+                hi = bounds[0] - 1;
+            } else if (k >= bounds[1]) {
+                lo = bounds[1];
+            } else {
+                return array[k];
+            }
+        }
+        selectRange(array, lo, hi, k, rounds);
+        return array[k];
+    }
+
+    /**
+     * Three-way partitions {@code array[from, to)} around the pivot in place: elements less
+     * than the pivot first, then elements equal to it, then greater elements.
+     *
+     * @param array the array
+     * @param from  index of the first element, inclusive
+     * @param to    index of the last element, exclusive
+     * @param pivot the pivot value
+     * @return {@code {lessEnd, greaterStart}}, the bounds of the elements equal to the pivot
+     * @since 1.0
+     */
+    public static int[] partition3(double[] array, int from, int to, double pivot) {
+        checkRange(array.length, from, to);
+        int lt = from;
+        int i = from;
+        int gt = to - 1;
+        while (i <= gt) {
+            if (less(array[i], pivot)) {
+                swap(array, lt++, i++);
+            } else if (less(pivot, array[i])) {
+                swap(array, i, gt--);
+            } else {
+                i++;
+            }
+        }
+        return new int[]{lt, gt + 1};
+    }
+
+    /**
+     * Parallel variant of {@link #partition3(double[], int, int, double)}. Each block of the range
+     * is counted and then scattered into a temporary buffer on the common fork-join pool,
+     * which keeps the relative order within each part. Smaller ranges are partitioned sequentially.
+     *
+     * @param array the array
+     * @param from  index of the first element, inclusive
+     * @param to    index of the last element, exclusive
+     * @param pivot the pivot value
+     * @return {@code {lessEnd, greaterStart}}, the bounds of the elements equal to the pivot
+     * @since 1.0
+     */
+    public static int[] parallelPartition3(double[] array, int from, int to, double pivot) {
+        checkRange(array.length, from, to);
+        int length = to - from;
+        if (length < PARALLEL_THRESHOLD) {
+            return partition3(array, from, to, pivot);
+        }
+        int blocks = blockCount(length);
+        int blockSize = (length + blocks - 1) / blocks;
+        int[] lessCounts = new int[blocks];
+        int[] equalCounts = new int[blocks];
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            int end = Math.min(to, from + (b + 1) * blockSize);
+            for (int i = from + b * blockSize; i < end; i++) {
+                if (less(array[i], pivot)) {
+                    lessCounts[b]++;
+                } else if (!less(pivot, array[i])) {
+                    equalCounts[b]++;
+                }
+            }
+        });
+
+        int[][] offsets = scatterOffsets(lessCounts, equalCounts, length, blockSize);
+        double[] buffer = new double[length];
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            int lessAt = offsets[0][b];
+            int equalAt = offsets[1][b];
+            int greaterAt = offsets[2][b];
+            int end = Math.min(to, from + (b + 1) * blockSize);
+            for (int i = from + b * blockSize; i < end; i++) {
+                if (less(array[i], pivot)) {
+                    buffer[lessAt++] = array[i];
+                } else if (less(pivot, array[i])) {
+                    buffer[greaterAt++] = array[i];
+                } else {
+                    buffer[equalAt++] = array[i];
+                }
+            }
+        });
+        System.arraycopy(buffer, 0, array, from, length);
+        return new int[]{from + offsets[1][0], from + offsets[2][0]};
+    }
+
+    /**
+     * Returns the {@code k} largest elements in descending order, using a primitive
+     * min-heap of size {@code k} so the input is scanned once and never boxed.
+     *
+     * @param array the array, which is not modified
+     * @param k     number of elements, at most the array length
+     * @return the {@code k} largest elements, largest first
+     * @since 1.0
+     */
+    public static double[] topK(double[] array, int k) {
+        checkTopK(array.length, k);
+        return topK(array, 0, array.length, k);
+    }
+
+    /**
+     * Parallel variant of {@link #topK(double[], int)}. Arrays of at least
+     * {@value #PARALLEL_THRESHOLD} elements are split into blocks whose top {@code k}
+     * are found on the common fork-join pool and then merged.
+     *
+     * @param array the array, which is not modified
+     * @param k     number of elements, at most the array length
+     * @return the {@code k} largest elements, largest first
+     * @since 1.0
+     */
+    public static double[] parallelTopK(double[] array, int k) {
+        checkTopK(array.length, k);
+        if (array.length < PARALLEL_THRESHOLD) {
+            return topK(array, 0, array.length, k);
+        }
+        int blocks = blockCount(array.length);
+        int blockSize = (array.length + blocks - 1) / blocks;
+        double[][] partial = IntStream.range(0, blocks).parallel()
+                .mapToObj(b -> {
+                    int from = b * blockSize;
+                    int to = Math.min(array.length, from + blockSize);
+                    return topK(array, from, to, Math.min(k, to - from));
+                })
+                .toArray(double[][]::new);
+        double[] candidates = Arrays.stream(partial).flatMapToDouble(Arrays::stream).toArray();
+        return topK(candidates, 0, candidates.length, k);
+    }
+
+    /**
+     * Sorts {@code array[from, to)} in ascending order.
+     *
+     * @param array the array
+     * @param from  index of the first element, inclusive
+     * @param to    index of the last element, exclusive
+     * @since 1.0
+     */
+    public static void sort(double[] array, int from, int to) {
+        checkRange(array.length, from, to);
+        Arrays.sort(array, from, to);
+    }
+
+    /**
+     * Sorts {@code array[from, to)} in ascending order on the common fork-join pool,
+     * sequentially for small ranges.
+     *
+     * @param array the array
+     * @param from  index of the first element, inclusive
+     * @param to    index of the last element, exclusive
+     * @since 1.0
+     */
+    public static void parallelSort(double[] array, int from, int to) {
+        checkRange(array.length, from, to);
+        Arrays.parallelSort(array, from, to);
+    }
+
+    private static void selectRange(double[] array, int lo, int hi, int k, int rounds) {
+        while (hi > lo) {
+            if (rounds-- == 0) {
+                Arrays.sort(array, lo, hi + 1);
+                return;
+            }
+            int[] bounds = partition3(array, lo, hi + 1, medianOfThree(array, lo, hi));
+            if (k < bounds[0]) {
+                hi = bounds[0] - 1;
+            } else if (k >= bounds[1]) {
+                lo = bounds[1];
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static double medianOfThree(double[] array, int lo, int hi) {
+        double a = array[lo];
+        double b = array[lo + (hi - lo) / 2];
+        double c = array[hi];
+        if (less(a, b)) {
+            return less(b, c) ? b : less(a, c) ? c : a;
+        }
+        return less(a, c) ? a : less(b, c) ? c : b;
+    }
+
+    private static double[] topK(double[] array, int from, int to, int k) {
+        double[] heap = new double[k];
+        int size = 0;
+        for (int i = from; i < to; i++) {
+            double value = array[i];
+            if (size < k) {
+                heap[size] = value;
+                siftUp(heap, size++);
+            } else if (k > 0 && less(heap[0], value)) {
+                heap[0] = value;
+                siftDown(heap, 0, k);
+            }
+        }
+        Arrays.sort(heap);
+        for (int i = 0, j = k - 1; i < j; i++, j--) {
+            swap(heap, i, j);
+        }
+        return heap;
+    }
+
+    static void siftUp(double[] heap, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!less(heap[index], heap[parent])) {
+                return;
+            }
+            swap(heap, index, parent);
+            index = parent;
+        }
+    }
+
+    static void siftDown(double[] heap, int index, int size) {
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && less(heap[left], heap[smallest])) {
+                smallest = left;
+            }
+            if (right < size && less(heap[right], heap[smallest])) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(heap, index, smallest);
+            index = smallest;
+        }
+    }
+
+    // Same total order as Double.compare and Arrays.sort: -0.0 before 0.0, NaN last.
+    private static boolean less(double a, double b) {
+        return Double.compare(a, b) < 0;
+    }
+
+    // ========================= Shared Helpers =========================
+
+    // These run on every call, so the message is only formatted once a check fails.
+
+    private static void checkRange(int length, int from, int to) {
+        if (from < 0 || from > to || to > length) {
+            throw new IndexOutOfBoundsException(String.format("Range [%d, %d) out of bounds for length %d", from, to, length));
+        }
+    }
+
+    private static void checkSelection(int length, int from, int to, int k) {
+        checkRange(length, from, to);
+        if (k < from || k >= to) {
+            throw new IndexOutOfBoundsException(String.format("Index %d out of range [%d, %d)", k, from, to));
+        }
+    }
+
+    private static void checkTopK(int length, int k) {
+        if (k < 0 || k > length) {
+            throw new IllegalArgumentException(String.format("k must be between 0 and %d", length));
+        }
+    }
+
+    /**
+     * Bounds the number of partitioning rounds at twice the depth a balanced split
+     * would need, after which the remaining range is sorted instead.
+     */
+    private static int maxPartitionRounds(int length) {
+        return 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(1, length)));
+    }
+
+    private static int blockCount(int length) {
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        return Math.max(1, Math.min(length / MIN_BLOCK_SIZE, parallelism * 4));
+    }
+
+    /**
+     * Computes where each block writes its less, equal and greater elements, given the
+     * per-block counts of the first two. Returns {@code {lessOffsets, equalOffsets, greaterOffsets}}
+     * relative to the start of the range.
+     */
+    private static int[][] scatterOffsets(int[] lessCounts, int[] equalCounts, int length, int blockSize) {
+        int blocks = lessCounts.length;
+        int totalLess = Arrays.stream(lessCounts).sum();
+        int totalEqual = Arrays.stream(equalCounts).sum();
+        int[][] offsets = new int[3][blocks];
+        int lessAt = 0;
+        int equalAt = totalLess;
+        int greaterAt = totalLess + totalEqual;
+        for (int b = 0; b < blocks; b++) {
+            int size = Math.min(length, (b + 1) * blockSize) - b * blockSize;
+            offsets[0][b] = lessAt;
+            offsets[1][b] = equalAt;
+            offsets[2][b] = greaterAt;
+            lessAt += lessCounts[b];
+            equalAt += equalCounts[b];
+            greaterAt += size - lessCounts[b] - equalCounts[b];
+        }
+        return offsets;
+    }
 }
@@ -6,53 +6,125 @@ package org.umtools.util;
 
 import org.apache.commons.collections4.CollectionUtils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.Collection;
+import java.util.function.Supplier;
 
 /**
  * Utility class providing assertion methods for validating conditions.
+ * <p>
+ * Every check comes in three forms: with a ready-made message, with a
+ * {@code Supplier<String>}, and with a format string and arguments. The last two
+ * only build the message when the check fails, although a call to the format form
+ * still allocates its argument array and boxes primitive arguments. Checks on hot
+ * paths should test the condition first and format the message only on failure.
+ * Exception constructors are looked up once per exception type and cached as method
+ * handles.
+ * </p>
+ * <p>
+ * Bulk element checks scan whole arrays or matrices, using the Vector API when it is
+ * available (see {@link ArrayChecks}), and add the position of the first failing
+ * element to the message.
+ * </p>
  *
  * @author Ng, Zhi Yang
  * @since 1.0
  */
 public class Asserts {
 
+    private static final MethodType STRING_CONSTRUCTOR = MethodType.methodType(void.class, String.class);
+    private static final MethodType EXCEPTION_FACTORY = MethodType.methodType(Exception.class, String.class);
+
+    private static final ClassValue<MethodHandle> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                return MethodHandles.publicLookup()
+                        .findConstructor(type, STRING_CONSTRUCTOR)
+                        .asType(EXCEPTION_FACTORY);
+            } catch (NoSuchMethodException | IllegalAccessException ex) {
+                throw new IllegalArgumentException(type.getName() + " has no public constructor taking a String message", ex);
+            }
+        }
+    };
+
     private Asserts() {
 
     }
 
     // ========================= Dimension Checks =========================
     public static void sameDimension(int[][] matrix1, int[][] matrix2, Class<? extends Exception> clazz, String message) {
-        equalInt(matrix1.length, matrix2.length, clazz, message);
-        for (int i = 0; i < matrix1.length; i++) {
-            equalInt(matrix1[i].length, matrix2[i].length, clazz, message);
-        }
+        isTrue(sameShape(matrix1, matrix2), clazz, message);
+    }
+
+    public static void sameDimension(int[][] matrix1, int[][] matrix2, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(sameShape(matrix1, matrix2), clazz, messageSupplier);
+    }
+
+    public static void sameDimension(int[][] matrix1, int[][] matrix2, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(sameShape(matrix1, matrix2), clazz, format, args);
     }
 
     public static void sameDimension(double[][] matrix1, double[][] matrix2, Class<? extends Exception> clazz, String message) {
-        equalInt(matrix1.length, matrix2.length, clazz, message);
-        for (int i = 0; i < matrix1.length; i++) {
-            equalInt(matrix1[i].length, matrix2[i].length, clazz, message);
-        }
+        isTrue(sameShape(matrix1, matrix2), clazz, message);
+    }
+
+    public static void sameDimension(double[][] matrix1, double[][] matrix2, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(sameShape(matrix1, matrix2), clazz, messageSupplier);
+    }
+
+    public static void sameDimension(double[][] matrix1, double[][] matrix2, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(sameShape(matrix1, matrix2), clazz, format, args);
     }
 
     public static void sameDimension(int[] array, int[] array2, Class<? extends Exception> clazz, String message) {
         equalInt(array.length, array2.length, clazz, message);
     }
 
+    public static void sameDimension(int[] array, int[] array2, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        equalInt(array.length, array2.length, clazz, messageSupplier);
+    }
+
+    public static void sameDimension(int[] array, int[] array2, Class<? extends Exception> clazz, String format, Object... args) {
+        equalInt(array.length, array2.length, clazz, format, args);
+    }
+
     public static void sameDimension(double[] array, double[] array2, Class<? extends Exception> clazz, String message) {
         equalInt(array.length, array2.length, clazz, message);
     }
 
+    public static void sameDimension(double[] array, double[] array2, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        equalInt(array.length, array2.length, clazz, messageSupplier);
+    }
+
+    public static void sameDimension(double[] array, double[] array2, Class<? extends Exception> clazz, String format, Object... args) {
+        equalInt(array.length, array2.length, clazz, format, args);
+    }
+
     public static void sameColumns(int[] array, int[][] matrix, Class<? extends Exception> clazz, String message) {
-        for (int[] intArray : matrix) {
-            equalInt(array.length, intArray.length, clazz, message);
-        }
+        isTrue(allRowsHaveLength(matrix, array.length), clazz, message);
+    }
+
+    public static void sameColumns(int[] array, int[][] matrix, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(allRowsHaveLength(matrix, array.length), clazz, messageSupplier);
+    }
+
+    public static void sameColumns(int[] array, int[][] matrix, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(allRowsHaveLength(matrix, array.length), clazz, format, args);
     }
 
     public static void sameColumns(double[] array, double[][] matrix, Class<? extends Exception> clazz, String message) {
-        for (double[] doubleArray : matrix) {
-            equalInt(array.length, doubleArray.length, clazz, message);
-        }
+        isTrue(allRowsHaveLength(matrix, array.length), clazz, message);
+    }
+
+    public static void sameColumns(double[] array, double[][] matrix, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(allRowsHaveLength(matrix, array.length), clazz, messageSupplier);
+    }
+
+    public static void sameColumns(double[] array, double[][] matrix, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(allRowsHaveLength(matrix, array.length), clazz, format, args);
     }
 
     // ========================= Comparison Checks =========================
@@ -60,125 +132,649 @@ public class Asserts {
         isTrue(value == target, clazz, message);
     }
 
+    public static void equalInt(int value, int target, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(value == target, clazz, messageSupplier);
+    }
+
+    public static void equalInt(int value, int target, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(value == target, clazz, format, args);
+    }
+
     public static void equalDouble(double value, double target, double epsilon, Class<? extends Exception> clazz, String message) {
         isTrue(Math.abs(value - target) < epsilon, clazz, message);
     }
 
+    public static void equalDouble(double value, double target, double epsilon, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(Math.abs(value - target) < epsilon, clazz, messageSupplier);
+    }
+
+    public static void equalDouble(double value, double target, double epsilon, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(Math.abs(value - target) < epsilon, clazz, format, args);
+    }
+
     public static void smallerThan(int value, int target, Class<? extends Exception> clazz, String message) {
         isTrue(value < target, clazz, message);
     }
 
+    public static void smallerThan(int value, int target, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(value < target, clazz, messageSupplier);
+    }
+
+    public static void smallerThan(int value, int target, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(value < target, clazz, format, args);
+    }
+
     public static void greaterThan(int value, int target, Class<? extends Exception> clazz, String message) {
         isTrue(value > target, clazz, message);
     }
 
+    public static void greaterThan(int value, int target, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(value > target, clazz, messageSupplier);
+    }
+
+    public static void greaterThan(int value, int target, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(value > target, clazz, format, args);
+    }
+
     public static void smallerThan(double value, double target, Class<? extends Exception> clazz, String message) {
         isTrue(value < target, clazz, message);
     }
 
+    public static void smallerThan(double value, double target, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(value < target, clazz, messageSupplier);
+    }
+
+    public static void smallerThan(double value, double target, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(value < target, clazz, format, args);
+    }
+
     public static void greaterThan(double value, double target, Class<? extends Exception> clazz, String message) {
         isTrue(value > target, clazz, message);
     }
 
+    public static void greaterThan(double value, double target, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(value > target, clazz, messageSupplier);
+    }
+
+    public static void greaterThan(double value, double target, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(value > target, clazz, format, args);
+    }
+
     public static void geq(int value, int target, Class<? extends Exception> clazz, String message) {
         isTrue(value >= target, clazz, message);
     }
 
+    public static void geq(int value, int target, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(value >= target, clazz, messageSupplier);
+    }
+
+    public static void geq(int value, int target, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(value >= target, clazz, format, args);
+    }
+
     public static void leq(int value, int target, Class<? extends Exception> clazz, String message) {
         isTrue(value <= target, clazz, message);
     }
 
+    public static void leq(int value, int target, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(value <= target, clazz, messageSupplier);
+    }
+
+    public static void leq(int value, int target, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(value <= target, clazz, format, args);
+    }
+
     public static void geq(double value, double target, Class<? extends Exception> clazz, String message) {
         isTrue(value >= target, clazz, message);
     }
 
+    public static void geq(double value, double target, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(value >= target, clazz, messageSupplier);
+    }
+
+    public static void geq(double value, double target, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(value >= target, clazz, format, args);
+    }
+
     public static void leq(double value, double target, Class<? extends Exception> clazz, String message) {
         isTrue(value <= target, clazz, message);
     }
 
+    public static void leq(double value, double target, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(value <= target, clazz, messageSupplier);
+    }
+
+    public static void leq(double value, double target, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(value <= target, clazz, format, args);
+    }
+
     public static void between(int value, int startInclusive, int endInclusive, Class<? extends Exception> clazz, String message) {
         isTrue(value >= startInclusive && value <= endInclusive, clazz, message);
     }
 
+    public static void between(int value, int startInclusive, int endInclusive, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(value >= startInclusive && value <= endInclusive, clazz, messageSupplier);
+    }
+
+    public static void between(int value, int startInclusive, int endInclusive, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(value >= startInclusive && value <= endInclusive, clazz, format, args);
+    }
+
     public static void between(double value, double startInclusive, double endInclusive, Class<? extends Exception> clazz, String message) {
         isTrue(value >= startInclusive && value <= endInclusive, clazz, message);
     }
 
+    public static void between(double value, double startInclusive, double endInclusive, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(value >= startInclusive && value <= endInclusive, clazz, messageSupplier);
+    }
+
+    public static void between(double value, double startInclusive, double endInclusive, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(value >= startInclusive && value <= endInclusive, clazz, format, args);
+    }
+
     public static void betweenExclusive(int value, int startExclusive, int endExclusive, Class<? extends Exception> clazz, String message) {
         isTrue(value > startExclusive && value < endExclusive, clazz, message);
     }
 
+    public static void betweenExclusive(int value, int startExclusive, int endExclusive, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(value > startExclusive && value < endExclusive, clazz, messageSupplier);
+    }
+
+    public static void betweenExclusive(int value, int startExclusive, int endExclusive, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(value > startExclusive && value < endExclusive, clazz, format, args);
+    }
+
     public static void betweenExclusive(double value, double startExclusive, double endExclusive, Class<? extends Exception> clazz, String message) {
         isTrue(value > startExclusive && value < endExclusive, clazz, message);
     }
 
+    public static void betweenExclusive(double value, double startExclusive, double endExclusive, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(value > startExclusive && value < endExclusive, clazz, messageSupplier);
+    }
+
+    public static void betweenExclusive(double value, double startExclusive, double endExclusive, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(value > startExclusive && value < endExclusive, clazz, format, args);
+    }
+
     // ========================= Emptiness Checks =========================
     public static void isEmpty(Collection<?> collection, Class<? extends Exception> clazz, String message) {
         isTrue(CollectionUtils.isEmpty(collection), clazz, message);
     }
 
+    public static void isEmpty(Collection<?> collection, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(CollectionUtils.isEmpty(collection), clazz, messageSupplier);
+    }
+
+    public static void isEmpty(Collection<?> collection, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(CollectionUtils.isEmpty(collection), clazz, format, args);
+    }
+
     public static void isNotEmpty(Collection<?> collection, Class<? extends Exception> clazz, String message) {
         isTrue(CollectionUtils.isNotEmpty(collection), clazz, message);
     }
 
+    public static void isNotEmpty(Collection<?> collection, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(CollectionUtils.isNotEmpty(collection), clazz, messageSupplier);
+    }
+
+    public static void isNotEmpty(Collection<?> collection, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(CollectionUtils.isNotEmpty(collection), clazz, format, args);
+    }
+
     public static void isEmpty(int[] array, Class<? extends Exception> clazz, String message) {
         isTrue(array == null || array.length == 0, clazz, message);
     }
 
+    public static void isEmpty(int[] array, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(array == null || array.length == 0, clazz, messageSupplier);
+    }
+
+    public static void isEmpty(int[] array, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(array == null || array.length == 0, clazz, format, args);
+    }
+
     public static void isNotEmpty(int[] array, Class<? extends Exception> clazz, String message) {
         isTrue(array != null && array.length > 0, clazz, message);
     }
 
+    public static void isNotEmpty(int[] array, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(array != null && array.length > 0, clazz, messageSupplier);
+    }
+
+    public static void isNotEmpty(int[] array, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(array != null && array.length > 0, clazz, format, args);
+    }
+
     public static void isEmpty(double[] array, Class<? extends Exception> clazz, String message) {
         isTrue(array == null || array.length == 0, clazz, message);
     }
 
+    public static void isEmpty(double[] array, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(array == null || array.length == 0, clazz, messageSupplier);
+    }
+
+    public static void isEmpty(double[] array, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(array == null || array.length == 0, clazz, format, args);
+    }
+
     public static void isNotEmpty(double[] array, Class<? extends Exception> clazz, String message) {
         isTrue(array != null && array.length > 0, clazz, message);
     }
 
+    public static void isNotEmpty(double[] array, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(array != null && array.length > 0, clazz, messageSupplier);
+    }
+
+    public static void isNotEmpty(double[] array, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(array != null && array.length > 0, clazz, format, args);
+    }
+
     public static void isEmpty(Object[] array, Class<? extends Exception> clazz, String message) {
         isTrue(array == null || array.length == 0, clazz, message);
     }
 
+    public static void isEmpty(Object[] array, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(array == null || array.length == 0, clazz, messageSupplier);
+    }
+
+    public static void isEmpty(Object[] array, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(array == null || array.length == 0, clazz, format, args);
+    }
+
     public static void isNotEmpty(Object[] array, Class<? extends Exception> clazz, String message) {
         isTrue(array != null && array.length > 0, clazz, message);
     }
 
+    public static void isNotEmpty(Object[] array, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(array != null && array.length > 0, clazz, messageSupplier);
+    }
+
+    public static void isNotEmpty(Object[] array, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(array != null && array.length > 0, clazz, format, args);
+    }
+
     // ========================= Positivity Checks =========================
     public static void isNonNegative(double number, Class<? extends Exception> clazz, String message) {
         isTrue(number >= 0, clazz, message);
     }
 
+    public static void isNonNegative(double number, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(number >= 0, clazz, messageSupplier);
+    }
+
+    public static void isNonNegative(double number, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(number >= 0, clazz, format, args);
+    }
+
     public static void isPositive(double number, Class<? extends Exception> clazz, String message) {
         isTrue(number > 0, clazz, message);
     }
 
+    public static void isPositive(double number, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(number > 0, clazz, messageSupplier);
+    }
+
+    public static void isPositive(double number, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(number > 0, clazz, format, args);
+    }
+
     public static void isNonNegative(int number, Class<? extends Exception> clazz, String message) {
         isTrue(number >= 0, clazz, message);
     }
 
+    public static void isNonNegative(int number, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(number >= 0, clazz, messageSupplier);
+    }
+
+    public static void isNonNegative(int number, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(number >= 0, clazz, format, args);
+    }
+
     public static void isPositive(int number, Class<? extends Exception> clazz, String message) {
         isTrue(number > 0, clazz, message);
     }
 
+    public static void isPositive(int number, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(number > 0, clazz, messageSupplier);
+    }
+
+    public static void isPositive(int number, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(number > 0, clazz, format, args);
+    }
+
+    // ========================= Bulk Element Checks =========================
+
+    public static void allBetween(double[] array, double startInclusive, double endInclusive, Class<? extends Exception> clazz, String message) {
+        failAt(position(ArrayChecks.firstNotBetween(array, startInclusive, endInclusive)), clazz, message);
+    }
+
+    public static void allBetween(double[] array, double startInclusive, double endInclusive, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        failAt(position(ArrayChecks.firstNotBetween(array, startInclusive, endInclusive)), clazz, messageSupplier);
+    }
+
+    public static void allBetween(double[] array, double startInclusive, double endInclusive, Class<? extends Exception> clazz, String format, Object... args) {
+        failAt(position(ArrayChecks.firstNotBetween(array, startInclusive, endInclusive)), clazz, format, args);
+    }
+
+    public static void allBetween(double[][] matrix, double startInclusive, double endInclusive, Class<? extends Exception> clazz, String message) {
+        failAt(positionNotBetween(matrix, startInclusive, endInclusive), clazz, message);
+    }
+
+    public static void allBetween(double[][] matrix, double startInclusive, double endInclusive, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        failAt(positionNotBetween(matrix, startInclusive, endInclusive), clazz, messageSupplier);
+    }
+
+    public static void allBetween(double[][] matrix, double startInclusive, double endInclusive, Class<? extends Exception> clazz, String format, Object... args) {
+        failAt(positionNotBetween(matrix, startInclusive, endInclusive), clazz, format, args);
+    }
+
+    public static void allBetween(int[] array, int startInclusive, int endInclusive, Class<? extends Exception> clazz, String message) {
+        failAt(position(ArrayChecks.firstNotBetween(array, startInclusive, endInclusive)), clazz, message);
+    }
+
+    public static void allBetween(int[] array, int startInclusive, int endInclusive, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        failAt(position(ArrayChecks.firstNotBetween(array, startInclusive, endInclusive)), clazz, messageSupplier);
+    }
+
+    public static void allBetween(int[] array, int startInclusive, int endInclusive, Class<? extends Exception> clazz, String format, Object... args) {
+        failAt(position(ArrayChecks.firstNotBetween(array, startInclusive, endInclusive)), clazz, format, args);
+    }
+
+    public static void allBetween(int[][] matrix, int startInclusive, int endInclusive, Class<? extends Exception> clazz, String message) {
+        failAt(positionNotBetween(matrix, startInclusive, endInclusive), clazz, message);
+    }
+
+    public static void allBetween(int[][] matrix, int startInclusive, int endInclusive, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        failAt(positionNotBetween(matrix, startInclusive, endInclusive), clazz, messageSupplier);
+    }
+
+    public static void allBetween(int[][] matrix, int startInclusive, int endInclusive, Class<? extends Exception> clazz, String format, Object... args) {
+        failAt(positionNotBetween(matrix, startInclusive, endInclusive), clazz, format, args);
+    }
+
+    public static void allFinite(double[] array, Class<? extends Exception> clazz, String message) {
+        failAt(position(ArrayChecks.firstNonFinite(array)), clazz, message);
+    }
+
+    public static void allFinite(double[] array, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        failAt(position(ArrayChecks.firstNonFinite(array)), clazz, messageSupplier);
+    }
+
+    public static void allFinite(double[] array, Class<? extends Exception> clazz, String format, Object... args) {
+        failAt(position(ArrayChecks.firstNonFinite(array)), clazz, format, args);
+    }
+
+    public static void allFinite(double[][] matrix, Class<? extends Exception> clazz, String message) {
+        failAt(positionNonFinite(matrix), clazz, message);
+    }
+
+    public static void allFinite(double[][] matrix, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        failAt(positionNonFinite(matrix), clazz, messageSupplier);
+    }
+
+    public static void allFinite(double[][] matrix, Class<? extends Exception> clazz, String format, Object... args) {
+        failAt(positionNonFinite(matrix), clazz, format, args);
+    }
+
+    public static void allNonNegative(double[] array, Class<? extends Exception> clazz, String message) {
+        failAt(position(ArrayChecks.firstNegative(array)), clazz, message);
+    }
+
+    public static void allNonNegative(double[] array, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        failAt(position(ArrayChecks.firstNegative(array)), clazz, messageSupplier);
+    }
+
+    public static void allNonNegative(double[] array, Class<? extends Exception> clazz, String format, Object... args) {
+        failAt(position(ArrayChecks.firstNegative(array)), clazz, format, args);
+    }
+
+    public static void allNonNegative(double[][] matrix, Class<? extends Exception> clazz, String message) {
+        failAt(positionNegative(matrix), clazz, message);
+    }
+
+    public static void allNonNegative(double[][] matrix, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        failAt(positionNegative(matrix), clazz, messageSupplier);
+    }
+
+    public static void allNonNegative(double[][] matrix, Class<? extends Exception> clazz, String format, Object... args) {
+        failAt(positionNegative(matrix), clazz, format, args);
+    }
+
+    public static void allNonNegative(int[] array, Class<? extends Exception> clazz, String message) {
+        failAt(position(ArrayChecks.firstNegative(array)), clazz, message);
+    }
+
+    public static void allNonNegative(int[] array, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        failAt(position(ArrayChecks.firstNegative(array)), clazz, messageSupplier);
+    }
+
+    public static void allNonNegative(int[] array, Class<? extends Exception> clazz, String format, Object... args) {
+        failAt(position(ArrayChecks.firstNegative(array)), clazz, format, args);
+    }
+
+    public static void allNonNegative(int[][] matrix, Class<? extends Exception> clazz, String message) {
+        failAt(positionNegative(matrix), clazz, message);
+    }
+
+    public static void allNonNegative(int[][] matrix, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        failAt(positionNegative(matrix), clazz, messageSupplier);
+    }
+
+    public static void allNonNegative(int[][] matrix, Class<? extends Exception> clazz, String format, Object... args) {
+        failAt(positionNegative(matrix), clazz, format, args);
+    }
+
     // ========================= Null Checks =========================
     public static void isNotNull(Object object, Class<? extends Exception> clazz, String message) {
         isTrue(object != null, clazz, message);
     }
 
+    public static void isNotNull(Object object, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(object != null, clazz, messageSupplier);
+    }
+
+    public static void isNotNull(Object object, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(object != null, clazz, format, args);
+    }
+
     public static void isNull(Object object, Class<? extends Exception> clazz, String message) {
         isTrue(object == null, clazz, message);
     }
 
+    public static void isNull(Object object, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        isTrue(object == null, clazz, messageSupplier);
+    }
+
+    public static void isNull(Object object, Class<? extends Exception> clazz, String format, Object... args) {
+        isTrue(object == null, clazz, format, args);
+    }
+
     // ========================= Core Assertion Logic =========================
+
+    /**
+     * Throws an exception of the given type with the given message if the condition is false.
+     * Unchecked exception types are thrown as they are; checked types are wrapped in a
+     * {@link RuntimeException} because this method does not declare them.
+     *
+     * @param condition the condition to check
+     * @param clazz     the exception type, which must have a public {@code (String)} constructor
+     * @param message   the exception message
+     */
     public static void isTrue(boolean condition, Class<? extends Exception> clazz, String message) {
         if (!condition) {
-            try {
-                throw (RuntimeException) clazz.getConstructor(String.class).newInstance(message);
-            } catch (Exception e) {
-                throw new RuntimeException("Failed to throw exception", e);
+            throw failure(clazz, message);
+        }
+    }
+
+    /**
+     * Same as {@link #isTrue(boolean, Class, String)}, but only builds the message if the check fails.
+     *
+     * @param condition       the condition to check
+     * @param clazz           the exception type, which must have a public {@code (String)} constructor
+     * @param messageSupplier supplies the exception message
+     */
+    public static void isTrue(boolean condition, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        if (!condition) {
+            throw failure(clazz, messageSupplier.get());
+        }
+    }
+
+    /**
+     * Same as {@link #isTrue(boolean, Class, String)}, but only formats the message with
+     * {@link String#format(String, Object...)} if the check fails.
+     *
+     * @param condition the condition to check
+     * @param clazz     the exception type, which must have a public {@code (String)} constructor
+     * @param format    the message format
+     * @param args      the format arguments
+     */
+    public static void isTrue(boolean condition, Class<? extends Exception> clazz, String format, Object... args) {
+        if (!condition) {
+            throw failure(clazz, String.format(format, args));
+        }
+    }
+
+    private static RuntimeException failure(Class<? extends Exception> clazz, String message) {
+        Exception exception;
+        try {
+            exception = (Exception) CONSTRUCTORS.get(clazz).invokeExact(message);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException("Failed to create " + clazz.getName(), ex);
+        }
+        if (exception instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new RuntimeException(message, exception);
+    }
+
+    private static void failAt(String position, Class<? extends Exception> clazz, String message) {
+        if (position != null) {
+            throw failure(clazz, atPosition(message, position));
+        }
+    }
+
+    private static void failAt(String position, Class<? extends Exception> clazz, Supplier<String> messageSupplier) {
+        if (position != null) {
+            throw failure(clazz, atPosition(messageSupplier.get(), position));
+        }
+    }
+
+    private static void failAt(String position, Class<? extends Exception> clazz, String format, Object... args) {
+        if (position != null) {
+            throw failure(clazz, atPosition(String.format(format, args), position));
+        }
+    }
+
+    private static String atPosition(String message, String position) {
+        return message + " (first failing element at " + position + ")";
+    }
+
+    private static String position(int index) {
+        return index < 0 ? null : "[" + index + "]";
+    }
+
+    private static String position(int row, int column) {
+        return column < 0 ? null : "[" + row + "][" + column + "]";
+    }
+
+    private static String positionNotBetween(double[][] matrix, double startInclusive, double endInclusive) {
+        for (int row = 0; row < matrix.length; row++) {
+            String position = position(row, ArrayChecks.firstNotBetween(matrix[row], startInclusive, endInclusive));
+            if (position != null) {
+                return position;
+            }
+        }
+        return null;
+    }
+
+    private static String positionNotBetween(int[][] matrix, int startInclusive, int endInclusive) {
+        for (int row = 0; row < matrix.length; row++) {
+            String position = position(row, ArrayChecks.firstNotBetween(matrix[row], startInclusive, endInclusive));
+            if (position != null) {
+                return position;
+            }
+        }
+        return null;
+    }
+
+    private static String positionNonFinite(double[][] matrix) {
+        for (int row = 0; row < matrix.length; row++) {
+            String position = position(row, ArrayChecks.firstNonFinite(matrix[row]));
+            if (position != null) {
+                return position;
+            }
+        }
+        return null;
+    }
+
+    private static String positionNegative(double[][] matrix) {
+        for (int row = 0; row < matrix.length; row++) {
+            String position = position(row, ArrayChecks.firstNegative(matrix[row]));
+            if (position != null) {
+                return position;
+            }
+        }
+        return null;
+    }
+
+    private static String positionNegative(int[][] matrix) {
+        for (int row = 0; row < matrix.length; row++) {
+            String position = position(row, ArrayChecks.firstNegative(matrix[row]));
+            if (position != null) {
+                return position;
+            }
+        }
+        return null;
+    }
+
+    // Comparing row lengths directly avoids a full check call per row on large jagged matrices.
+    private static boolean sameShape(int[][] matrix1, int[][] matrix2) {
+        if (matrix1 == matrix2) {
+            return true;
+        }
+        if (matrix1.length != matrix2.length) {
+            return false;
+        }
+        for (int i = 0; i < matrix1.length; i++) {
+            if (matrix1[i].length != matrix2[i].length) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sameShape(double[][] matrix1, double[][] matrix2) {
+        if (matrix1 == matrix2) {
+            return true;
+        }
+        if (matrix1.length != matrix2.length) {
+            return false;
+        }
+        for (int i = 0; i < matrix1.length; i++) {
+            if (matrix1[i].length != matrix2[i].length) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean allRowsHaveLength(int[][] matrix, int length) {
+        for (int[] row : matrix) {
+            if (row.length != length) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean allRowsHaveLength(double[][] matrix, int length) {
+        for (double[] row : matrix) {
+            if (row.length != length) {
+                return false;
             }
         }
+        return true;
     }
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.InputMismatchException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Reads line-oriented input, such as a recorded session or a data file, mapping every
+ * non-blank line to a typed record without prompting.
+ * <p>
+ * The mapper reads the fields of one line from a {@link FastReader} confined to that
+ * line, so a missing field is reported instead of being taken from the next line, and
+ * leftover fields are reported as well. By default the first bad line stops the read
+ * with an {@link InputMismatchException} giving its line and column;
+ * {@link #collectErrors()} instead skips bad lines and records an {@link InputError}
+ * for each.
+ * </p>
+ * <pre>{@code
+ * try (BatchInput input = BatchInput.open(path).collectErrors()) {
+ *     List<Trade> trades = input.readRecords(line -> new Trade(line.next(), line.nextInt(), line.nextDouble()));
+ *     input.getErrors().forEach(System.err::println);
+ * }
+ * }</pre>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public class BatchInput implements AutoCloseable {
+
+    private final FastReader reader;
+    private final List<InputError> errors = new ArrayList<>();
+    private boolean failFast = true;
+
+    /**
+     * Creates a batch reader over a stream.
+     *
+     * @param in the stream to read
+     */
+    public BatchInput(InputStream in) {
+        this.reader = new FastReader(in);
+    }
+
+    /**
+     * Opens a file for batch reading.
+     *
+     * @param file the file
+     * @return the batch reader, to be closed after use
+     * @throws UncheckedIOException if the file cannot be opened
+     */
+    public static BatchInput open(Path file) {
+        try {
+            return new BatchInput(Files.newInputStream(file));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open file: " + file, ex);
+        }
+    }
+
+    /**
+     * Makes bad lines be skipped and recorded in {@link #getErrors()} instead of stopping
+     * the read.
+     *
+     * @return this reader
+     */
+    public BatchInput collectErrors() {
+        this.failFast = false;
+        return this;
+    }
+
+    /**
+     * Maps every remaining non-blank line to a record and passes it to the action.
+     * Mapping fails for a line if the mapper throws an {@link IllegalArgumentException} or
+     * {@link NoSuchElementException}, which includes {@link InputMismatchException}, or if
+     * the mapper leaves a field unread.
+     *
+     * @param <T>    the type of records
+     * @param mapper reads one record from the fields of a line
+     * @param action receives each record
+     * @throws InputMismatchException unless errors are collected, at the first bad line
+     * @throws UncheckedIOException   if reading fails
+     */
+    public <T> void forEachRecord(RecordMapper<T> mapper, Consumer<? super T> action) {
+        reader.setLineBounded(true);
+        try {
+            while (reader.hasNextLine()) {
+                if (reader.hasNext()) {
+                    readRecord(mapper, action);
+                }
+                reader.skipLine();
+            }
+        } finally {
+            reader.setLineBounded(false);
+        }
+    }
+
+    /**
+     * Maps every remaining non-blank line to a record.
+     *
+     * @param <T>    the type of records
+     * @param mapper reads one record from the fields of a line
+     * @return the records, in input order
+     * @throws InputMismatchException unless errors are collected, at the first bad line
+     * @throws UncheckedIOException   if reading fails
+     * @see #forEachRecord(RecordMapper, Consumer)
+     */
+    public <T> List<T> readRecords(RecordMapper<T> mapper) {
+        List<T> records = new ArrayList<>();
+        forEachRecord(mapper, records::add);
+        return records;
+    }
+
+    /**
+     * Returns the errors collected so far.
+     *
+     * @return the errors, in input order
+     */
+    public List<InputError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * Closes the underlying stream.
+     *
+     * @throws UncheckedIOException if closing fails
+     */
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to close input", ex);
+        }
+    }
+
+    private <T> void readRecord(RecordMapper<T> mapper, Consumer<? super T> action) {
+        T record;
+        try {
+            record = mapper.map(reader);
+            if (reader.hasNext()) {
+                throw new InputMismatchException("Unexpected value: " + reader.next());
+            }
+        } catch (NoSuchElementException | IllegalArgumentException ex) {
+            InputError error = new InputError(reader.getLineNumber(), reader.getColumnNumber(), ex.getMessage());
+            if (failFast) {
+                throw new InputMismatchException(error.toString());
+            }
+            errors.add(error);
+            return;
+        }
+        action.accept(record);
+    }
+
+    /**
+     * Maps the fields of one line to a record.
+     *
+     * @param <T> the type of records
+     */
+    @FunctionalInterface
+    public interface RecordMapper<T> {
+
+        /**
+         * Reads one record.
+         *
+         * @param line a reader whose tokens are the fields of the current line
+         * @return the record
+         */
+        T map(FastReader line);
+    }
+}
@@ -7,16 +7,25 @@ package org.umtools.util;
 /**
  * Represents a benchmarking task that can measure execution time.
  * Provides methods to measure average and maximum execution time
- * for a given task.
+ * for a given task, or the full latency distribution in a single run.
+ * <p>
+ * Each {@code measure} call is one trial. Subclasses such as {@link StatefulBenchmark}
+ * hook into trial boundaries and decide what a single timed invocation does.
+ * </p>
  *
  * @author Ng, Zhi Yang
  * @since 1.0
  */
 public class Benchmark {
 
+    private static final double DEFAULT_TIMER_ERROR_PERCENT = 1.0;
+    private static final long MAX_BATCH_SIZE = 1L << 30;
+
     private final String name;
     private final Runnable task;
 
+    private long trialInvocations;
+
     public Benchmark(String name, Runnable task) {
         this.name = name;
         this.task = task;
@@ -33,13 +42,32 @@ public class Benchmark {
      * @return Average execution time in ns.
      */
     public long measureAvgTime(long iterations) {
-        long totalTime = 0;
-        for (int i = 0; i < iterations; i++) {
-            long startTime = System.nanoTime();
-            task.run();
-            totalTime += (System.nanoTime() - startTime);
+        return measureTotalTime(iterations) / iterations;
+    }
+
+    /**
+     * Measures the average execution time in nanoseconds without truncating it to a
+     * whole nanosecond, for callers comparing averages of short tasks.
+     *
+     * @param iterations Number of times to execute the task.
+     * @return Average execution time in ns.
+     */
+    double measureMeanTime(long iterations) {
+        return (double) measureTotalTime(iterations) / iterations;
+    }
+
+    private long measureTotalTime(long iterations) {
+        beforeTrial();
+        try {
+            long totalTime = 0;
+            for (long i = 0; i < iterations; i++) {
+                totalTime += timeInvocation();
+            }
+            trialInvocations = iterations;
+            return totalTime;
+        } finally {
+            afterTrial();
         }
-        return totalTime / iterations;
     }
 
     /**
@@ -49,16 +77,188 @@ public class Benchmark {
      * @return Maximum execution time in ns.
      */
     public long measureMaxTime(long iterations) {
-        long maxTime = 0;
-        for (int i = 0; i < iterations; i++) {
-            long startTime = System.nanoTime();
+        beforeTrial();
+        try {
+            long maxTime = 0;
+            for (int i = 0; i < iterations; i++) {
+                long execTime = timeInvocation();
+                if (execTime > maxTime) {
+                    maxTime = execTime;
+                }
+            }
+            trialInvocations = iterations;
+            return maxTime;
+        } finally {
+            afterTrial();
+        }
+    }
+
+    /**
+     * Measures the latency distribution in nanoseconds, recording every iteration once.
+     *
+     * @param iterations Number of times to execute the task.
+     * @return Histogram of the execution times in ns.
+     */
+    public LatencyHistogram measureLatency(long iterations) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        measureLatency(iterations, histogram);
+        return histogram;
+    }
+
+    /**
+     * Measures the latency distribution in nanoseconds into an existing histogram,
+     * so repeated runs do not allocate.
+     *
+     * @param iterations Number of times to execute the task.
+     * @param histogram  Histogram to record the execution times into.
+     */
+    public void measureLatency(long iterations, LatencyHistogram histogram) {
+        beforeTrial();
+        try {
+            for (long i = 0; i < iterations; i++) {
+                histogram.record(timeInvocation());
+            }
+            trialInvocations = iterations;
+        } finally {
+            afterTrial();
+        }
+    }
+
+    /**
+     * Measures the average execution time in nanoseconds, corrected for timer overhead,
+     * keeping the timer error below 1%.
+     *
+     * @param iterations Minimum number of times to execute the task.
+     * @return Average execution time in ns, with sub-nanosecond resolution.
+     * @see #measureCalibratedAvgTime(long, double)
+     */
+    public double measureCalibratedAvgTime(long iterations) {
+        return measureCalibratedAvgTime(iterations, DEFAULT_TIMER_ERROR_PERCENT);
+    }
+
+    /**
+     * Measures the average execution time in nanoseconds for tasks too short to time
+     * individually. The task runs in batches timed by a single pair of
+     * {@code System.nanoTime()} calls, with the batch size doubled until a batch lasts
+     * long enough that timer overhead and granularity stay below {@code maxTimerErrorPercent}
+     * of it. The calibrated timer overhead is then subtracted from every batch.
+     * Benchmarks that cannot be batched are timed one invocation at a time and
+     * only get the overhead correction.
+     *
+     * @param iterations           Minimum number of times to execute the task.
+     * @param maxTimerErrorPercent Acceptable timer error per batch, e.g. 1.0 for 1%.
+     * @return Average execution time in ns, with sub-nanosecond resolution.
+     */
+    public double measureCalibratedAvgTime(long iterations, double maxTimerErrorPercent) {
+        TimerCalibration timer = TimerCalibration.get();
+        beforeTrial();
+        try {
+            trialInvocations = 0;
+            boolean batching = supportsBatching();
+            long batchSize = batching ? chooseBatchSize(timer.minimumIntervalNanos(maxTimerErrorPercent)) : 1;
+            long batches = Math.max(1, (iterations + batchSize - 1) / batchSize);
+            long totalTime = 0;
+            for (long i = 0; i < batches; i++) {
+                totalTime += batching ? timeBatch(batchSize) : timeInvocation();
+            }
+            trialInvocations += batches * batchSize;
+            double corrected = (totalTime - batches * timer.getOverheadNanos()) / (batches * batchSize);
+            return Math.max(0, corrected);
+        } finally {
+            afterTrial();
+        }
+    }
+
+    /**
+     * Called once before the invocations of a trial, outside the timed region.
+     */
+    void beforeTrial() {
+        // Plain tasks have no per-trial state.
+    }
+
+    /**
+     * Called once after the invocations of a trial, outside the timed region.
+     */
+    void afterTrial() {
+        // Plain tasks have no per-trial state.
+    }
+
+    /**
+     * Called once before a trial in which {@link #invoke()} may be called from many
+     * threads and no single invocation is timed.
+     */
+    void beforeConcurrentTrial() {
+        beforeTrial();
+    }
+
+    /**
+     * Called once after a trial started by {@link #beforeConcurrentTrial()}.
+     */
+    void afterConcurrentTrial() {
+        afterTrial();
+    }
+
+    /**
+     * Executes the task once and returns how long the timed part took.
+     *
+     * @return Execution time in ns.
+     */
+    long timeInvocation() {
+        long startTime = System.nanoTime();
+        task.run();
+        return System.nanoTime() - startTime;
+    }
+
+    /**
+     * Executes the task the given number of times and returns how long the whole batch took.
+     *
+     * @param invocations Number of times to execute the task.
+     * @return Execution time of the batch in ns.
+     */
+    long timeBatch(long invocations) {
+        long startTime = System.nanoTime();
+        for (long i = 0; i < invocations; i++) {
             task.run();
-            long execTime = System.nanoTime() - startTime;
-            if (execTime > maxTime) {
-                maxTime = execTime;
+        }
+        return System.nanoTime() - startTime;
+    }
+
+    /**
+     * Returns whether {@link #timeBatch(long)} times nothing but the invocations.
+     *
+     * @return true if batched timing is accurate for this benchmark
+     */
+    boolean supportsBatching() {
+        return true;
+    }
+
+    private long chooseBatchSize(long minimumIntervalNanos) {
+        long batchSize = 1;
+        while (batchSize < MAX_BATCH_SIZE) {
+            trialInvocations += batchSize;
+            if (timeBatch(batchSize) >= minimumIntervalNanos) {
+                break;
             }
+            batchSize <<= 1;
         }
-        return maxTime;
+        return batchSize;
+    }
+
+    /**
+     * Returns how many times the task ran in the last completed {@code measure} call,
+     * including the untimed batches {@link #measureCalibratedAvgTime(long, double)} runs
+     * to choose its batch size.
+     *
+     * @return Number of invocations.
+     */
+    long getTrialInvocations() {
+        return trialInvocations;
     }
-}
 
+    /**
+     * Executes the task once without timing it.
+     */
+    void invoke() {
+        task.run();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Benchmark results persisted to a local properties file, keyed by benchmark name.
+ * Each entry stores the trial count, mean and standard deviation, which is all
+ * that is needed to compare later runs against it.
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public class BenchmarkBaseline {
+
+    private static final String COUNT_SUFFIX = ".trials";
+    private static final String MEAN_SUFFIX = ".mean";
+    private static final String STD_DEV_SUFFIX = ".stddev";
+
+    private final Map<String, TrialStatistics> results = new LinkedHashMap<>();
+
+    /**
+     * Loads a baseline from a file.
+     *
+     * @param path the baseline file
+     * @return the baseline
+     * @throws UncheckedIOException if the file cannot be read
+     */
+    public static BenchmarkBaseline load(Path path) {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read baseline: " + path, ex);
+        }
+
+        BenchmarkBaseline baseline = new BenchmarkBaseline();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.endsWith(MEAN_SUFFIX)) {
+                String name = key.substring(0, key.length() - MEAN_SUFFIX.length());
+                baseline.put(name, new TrialStatistics(
+                        Integer.parseInt(properties.getProperty(name + COUNT_SUFFIX, "1")),
+                        Double.parseDouble(properties.getProperty(key)),
+                        Double.parseDouble(properties.getProperty(name + STD_DEV_SUFFIX, "0"))));
+            }
+        }
+        return baseline;
+    }
+
+    /**
+     * Saves this baseline to a file, replacing any existing content.
+     *
+     * @param path the baseline file
+     * @throws UncheckedIOException if the file cannot be written
+     */
+    public void save(Path path) {
+        Properties properties = new Properties();
+        results.forEach((name, statistics) -> {
+            properties.setProperty(name + COUNT_SUFFIX, String.valueOf(statistics.getCount()));
+            properties.setProperty(name + MEAN_SUFFIX, String.valueOf(statistics.getMean()));
+            properties.setProperty(name + STD_DEV_SUFFIX, String.valueOf(statistics.getStdDev()));
+        });
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            properties.store(writer, "um-tools benchmark baseline");
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write baseline: " + path, ex);
+        }
+    }
+
+    public void put(String name, TrialStatistics statistics) {
+        results.put(name, statistics);
+    }
+
+    public Optional<TrialStatistics> get(String name) {
+        return Optional.ofNullable(results.get(name));
+    }
+
+    public Map<String, TrialStatistics> getResults() {
+        return Map.copyOf(results);
+    }
+}
@@ -4,6 +4,18 @@
  */
 package org.umtools.util;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
 /**
  * Utility class for running benchmarks and measuring execution times.
  * Supports measuring average execution time and maximum execution time
@@ -14,19 +26,27 @@ package org.umtools.util;
  */
 public class BenchmarkRunner {
 
+    private static final int DEFAULT_WARMUP_WINDOW = 5;
+    private static final long MAX_COMPLEXITY_ITERATIONS = 10_000_000;
+    private static final int LOAD_STRIPES = 16;
+    private static final long SPIN_THRESHOLD_NANOS = 100_000;
+
     private BenchmarkRunner() {
     }
 
     /**
-     * Runs each benchmark and prints the average and maximum execution times.
+     * Runs each benchmark and prints the execution time of the given type.
+     * {@link BenchmarkType#LATENCY} records every iteration once and prints
+     * min, mean, standard deviation and percentiles together.
+     * {@link BenchmarkType#CALIBRATED_AVG_TIME} times nanosecond-scale tasks in
+     * batches and corrects for the cost of the timer itself.
      *
      * @param iterations Number of iterations to run each benchmark.
      * @param benchmarks Array of Benchmark tasks.
      */
     public static void runBenchmarks(BenchmarkType type, long iterations, Benchmark... benchmarks) {
         for (Benchmark benchmark : benchmarks) {
-            long execTime = getExecTime(type, iterations, benchmark);
-            System.out.printf("%s - %s: %d ns%n", benchmark.getName(), type.label, execTime);
+            System.out.printf("%s - %s: %s%n", benchmark.getName(), type.label, measure(type, iterations, benchmark));
         }
     }
 
@@ -37,17 +57,535 @@ public class BenchmarkRunner {
         runBenchmarks(type, iterations, benchmarks);
     }
 
-    private static long getExecTime(BenchmarkType type, long iterations, Benchmark benchmark) {
+    /**
+     * Warms up each benchmark until its batch times settle, then runs it and prints
+     * the time to steady state alongside the execution time of the given type.
+     *
+     * @param batchIterations Number of iterations per timed warmup batch.
+     * @param iterations      Number of iterations to run each benchmark.
+     * @param cvThreshold     Coefficient of variation below which batches count as steady, e.g. 0.02.
+     * @param maxWarmup       Upper bound on the warmup time per benchmark.
+     * @param benchmarks      Array of Benchmark tasks.
+     * @return Warmup result of each benchmark, in order.
+     */
+    public static List<WarmupResult> runBenchmarksWithAdaptiveWarmup(BenchmarkType type, long batchIterations, long iterations,
+                                                                     double cvThreshold, Duration maxWarmup, Benchmark... benchmarks) {
+        List<WarmupResult> warmups = new ArrayList<>(benchmarks.length);
+        for (Benchmark benchmark : benchmarks) {
+            WarmupResult warmup = warmUp(benchmark, batchIterations, DEFAULT_WARMUP_WINDOW, cvThreshold, maxWarmup);
+            warmups.add(warmup);
+            System.out.printf("%s - Warmup: %s%n", benchmark.getName(), warmup);
+            System.out.printf("%s - %s: %s%n", benchmark.getName(), type.label, measure(type, iterations, benchmark));
+        }
+        return warmups;
+    }
+
+    /**
+     * Runs timed batches of the benchmark until the coefficient of variation of the
+     * last {@code window} batch averages drops below the threshold, or until the time
+     * cap is reached. Averages keep their fractional nanoseconds, since rounding would
+     * hide the variation of short tasks.
+     *
+     * @param benchmark       Benchmark task.
+     * @param batchIterations Number of iterations per timed batch.
+     * @param window          Number of most recent batches the variation is computed over, at least 2.
+     * @param cvThreshold     Coefficient of variation below which batches count as steady, e.g. 0.02.
+     * @param maxWarmup       Upper bound on the warmup time.
+     * @return The time to steady state and how it was reached.
+     */
+    public static WarmupResult warmUp(Benchmark benchmark, long batchIterations, int window, double cvThreshold, Duration maxWarmup) {
+        Asserts.isTrue(batchIterations > 0, IllegalArgumentException.class, "Batch iterations must be positive");
+        Asserts.geq(window, 2, IllegalArgumentException.class, "Warmup window must be at least 2");
+        Asserts.isPositive(cvThreshold, IllegalArgumentException.class, "CV threshold must be positive");
+
+        double[] recent = new double[window];
+        long maxNanos = maxWarmup.toNanos();
+        long startTime = System.nanoTime();
+        int batches = 0;
+        double cv = Double.NaN;
+        while (true) {
+            recent[batches % window] = benchmark.measureMeanTime(batchIterations);
+            batches++;
+            long elapsed = System.nanoTime() - startTime;
+            if (batches >= window) {
+                cv = TrialStatistics.of(recent).getCoefficientOfVariation();
+                if (cv < cvThreshold) {
+                    return new WarmupResult(benchmark.getName(), true, elapsed, batches, cv);
+                }
+            }
+            if (elapsed >= maxNanos) {
+                return new WarmupResult(benchmark.getName(), false, elapsed, batches, cv);
+            }
+        }
+    }
+
+    /**
+     * Runs a scaling benchmark at every input size, fits the timings against O(1),
+     * O(log n), O(n), O(n log n) and O(n^2), and prints the best fit with a table of
+     * the measurements. At each size the benchmark is warmed up and then run for about
+     * {@code timePerSize} of wall-clock time, with at least one invocation. The budget
+     * includes untimed input generation, so a cheap function on a large input runs only
+     * as often as its input can be rebuilt in that time.
+     *
+     * @param benchmark   Scaling benchmark.
+     * @param timePerSize Approximate measurement time at each size.
+     * @return The measurements and the fitted complexity.
+     */
+    public static ComplexityResult runComplexity(ScalingBenchmark<?> benchmark, Duration timePerSize) {
+        long[] sizes = benchmark.getSizes();
+        double[] times = new double[sizes.length];
+        long budget = timePerSize.toNanos();
+        for (int i = 0; i < sizes.length; i++) {
+            Benchmark sized = benchmark.atSize(sizes[i]);
+            // Budget by wall-clock time, which includes the untimed input generation.
+            long startTime = System.nanoTime();
+            sized.measureAvgTime(1);
+            long estimate = Math.max(1, System.nanoTime() - startTime);
+            long warmIterations = Math.max(1, Math.min(MAX_COMPLEXITY_ITERATIONS, budget / estimate / 2));
+            startTime = System.nanoTime();
+            sized.measureAvgTime(warmIterations);
+            long perInvocation = Math.max(1, (System.nanoTime() - startTime) / warmIterations);
+            long iterations = Math.max(1, Math.min(MAX_COMPLEXITY_ITERATIONS, budget / perInvocation));
+            times[i] = sized.measureCalibratedAvgTime(iterations);
+        }
+        ComplexityResult result = new ComplexityResult(benchmark.getName(), sizes, times);
+        result.print();
+        return result;
+    }
+
+    /**
+     * Runs each benchmark and prints the execution time of the given type together
+     * with the bytes allocated per operation and the GC activity during the run.
+     * Allocation made by untimed setup, such as a {@link StatefulBenchmark} state
+     * supplier, is included; the harness itself allocates nothing while sampling.
+     * Bytes are divided by the number of invocations actually run, which for
+     * {@link BenchmarkType#CALIBRATED_AVG_TIME} includes those spent choosing a batch size.
+     *
+     * @param iterations Number of iterations to run each benchmark.
+     * @param benchmarks Array of Benchmark tasks.
+     * @return Allocation profile of each benchmark, in order.
+     */
+    public static List<AllocationProfile> runBenchmarksWithProfiling(BenchmarkType type, long iterations, Benchmark... benchmarks) {
+        TimerCalibration.get();
+        LatencyHistogram histogram = new LatencyHistogram();
+        double[] result = new double[1];
+        List<AllocationProfile> profiles = new ArrayList<>(benchmarks.length);
+        for (Benchmark benchmark : benchmarks) {
+            histogram.reset();
+            AllocationProfile profile = AllocationProfile.profile(benchmark.getName(),
+                    () -> measureInto(type, iterations, benchmark, histogram, result));
+            profiles.add(profile);
+            String formatted = type == BenchmarkType.LATENCY ? histogram.summary() : format(type, result[0]);
+            System.out.printf("%s - %s: %s (%s)%n", benchmark.getName(), type.label, formatted, profile);
+        }
+        return profiles;
+    }
+
+    /**
+     * Measures the average execution time of the benchmark over several independent trials.
+     *
+     * @param trials     Number of trials, each contributing one sample.
+     * @param iterations Number of iterations per trial.
+     * @param benchmark  Benchmark task.
+     * @return Statistics of the per-trial average times in ns.
+     */
+    public static TrialStatistics measureTrials(int trials, long iterations, Benchmark benchmark) {
+        Asserts.isPositive(trials, IllegalArgumentException.class, "Trial count must be positive");
+        double[] samples = new double[trials];
+        for (int i = 0; i < trials; i++) {
+            samples[i] = benchmark.measureAvgTime(iterations);
+        }
+        return TrialStatistics.of(samples);
+    }
+
+    /**
+     * Runs each benchmark for several trials and saves the results as a new baseline,
+     * replacing the file if it exists.
+     *
+     * @param baselineFile File to save the baseline to.
+     * @param trials       Number of trials per benchmark.
+     * @param iterations   Number of iterations per trial.
+     * @param benchmarks   Array of Benchmark tasks.
+     * @return The saved baseline.
+     */
+    public static BenchmarkBaseline recordBaseline(Path baselineFile, int trials, long iterations, Benchmark... benchmarks) {
+        BenchmarkBaseline baseline = new BenchmarkBaseline();
+        for (Benchmark benchmark : benchmarks) {
+            TrialStatistics statistics = measureTrials(trials, iterations, benchmark);
+            baseline.put(benchmark.getName(), statistics);
+            System.out.printf("%s - %s: %s%n", benchmark.getName(), BenchmarkType.AVG_TIME.label, statistics);
+        }
+        baseline.save(baselineFile);
+        System.out.printf("Baseline saved to %s%n", baselineFile);
+        return baseline;
+    }
+
+    /**
+     * Runs each benchmark for several trials and compares it against the saved baseline.
+     * A benchmark regresses when its mean is more than {@code threshold} slower than the
+     * baseline and the slowdown is significant at the 95% level. Benchmarks missing from
+     * the baseline are reported but never regress.
+     *
+     * @param baselineFile File holding the baseline.
+     * @param trials       Number of trials per benchmark.
+     * @param iterations   Number of iterations per trial.
+     * @param threshold    Smallest relative slowdown that counts, e.g. 0.05 for 5%.
+     * @param benchmarks   Array of Benchmark tasks.
+     * @return true if no benchmark regressed.
+     */
+    public static boolean checkBaseline(Path baselineFile, int trials, long iterations, double threshold, Benchmark... benchmarks) {
+        BenchmarkBaseline baseline = BenchmarkBaseline.load(baselineFile);
+        boolean passed = true;
+        List<String[]> rows = new ArrayList<>();
+        for (Benchmark benchmark : benchmarks) {
+            TrialStatistics current = measureTrials(trials, iterations, benchmark);
+            TrialStatistics previous = baseline.get(benchmark.getName()).orElse(null);
+            if (previous == null) {
+                rows.add(new String[]{benchmark.getName(), "-", current.toString(), "-", "NEW"});
+                continue;
+            }
+            boolean regressed = current.isSignificantlySlowerThan(previous, threshold);
+            passed &= !regressed;
+            rows.add(new String[]{benchmark.getName(), previous.toString(), current.toString(),
+                    String.format("%+.1f%%", current.relativeChange(previous) * 100),
+                    regressed ? "REGRESSION" : "OK"});
+        }
+        TableUtils.renderTable(new String[]{"Benchmark", "Baseline", "Current", "Change", "Verdict"}, rows);
+        return passed;
+    }
+
+    /**
+     * Gates on performance: records a baseline if none exists yet, otherwise compares
+     * against it. The caller decides how to fail, e.g. by exiting with a non-zero status
+     * from {@code main}.
+     *
+     * @param baselineFile File holding the baseline.
+     * @param trials       Number of trials per benchmark.
+     * @param iterations   Number of iterations per trial.
+     * @param threshold    Smallest relative slowdown that counts, e.g. 0.05 for 5%.
+     * @param benchmarks   Array of Benchmark tasks.
+     * @return false if any benchmark regressed, true otherwise or if the baseline was
+     *         just recorded.
+     */
+    public static boolean runRegressionGate(Path baselineFile, int trials, long iterations, double threshold, Benchmark... benchmarks) {
+        if (Files.notExists(baselineFile)) {
+            recordBaseline(baselineFile, trials, iterations, benchmarks);
+            return true;
+        }
+        boolean passed = checkBaseline(baselineFile, trials, iterations, threshold, benchmarks);
+        if (!passed) {
+            System.out.println("Performance regression detected");
+        }
+        return passed;
+    }
+
+    /**
+     * Runs the benchmark on the given number of threads for a fixed duration
+     * and prints the overall and per-thread throughput.
+     *
+     * @param benchmark Benchmark task, which must be safe to run concurrently.
+     * @param threads   Number of threads running the task.
+     * @param mode      Whether to use platform or virtual threads.
+     * @param duration  How long the measurement window stays open.
+     */
+    public static void runThroughput(Benchmark benchmark, int threads, ThreadMode mode, Duration duration) {
+        System.out.println(measureThroughput(benchmark, threads, mode, duration));
+    }
+
+    /**
+     * Runs the benchmark at 1, 2, 4, ... threads up to the number of available
+     * processors and prints the throughput at each step as a scaling table.
+     *
+     * @param benchmark Benchmark task, which must be safe to run concurrently.
+     * @param mode      Whether to use platform or virtual threads.
+     * @param duration  How long the measurement window stays open at each step.
+     * @return Results of every step, in order of increasing thread count.
+     */
+    public static List<ThroughputResult> runThroughputScaling(Benchmark benchmark, ThreadMode mode, Duration duration) {
+        List<ThroughputResult> results = new ArrayList<>();
+        for (int threads : scalingSteps(Runtime.getRuntime().availableProcessors())) {
+            results.add(measureThroughput(benchmark, threads, mode, duration));
+        }
+
+        double baseline = results.get(0).getOpsPerSecond();
+        String[][] rows = results.stream()
+                .map(result -> new String[]{
+                        String.valueOf(result.getThreads()),
+                        String.format("%.0f", result.getOpsPerSecond()),
+                        String.format("%.0f", result.getOpsPerSecond() / result.getThreads()),
+                        String.format("%.0f", result.getMinThreadOpsPerSecond()),
+                        String.format("%.0f", result.getMaxThreadOpsPerSecond()),
+                        String.format("%.2fx", result.getOpsPerSecond() / baseline)
+                })
+                .toArray(String[][]::new);
+        System.out.printf("%s - Throughput scaling (%s threads)%n", benchmark.getName(), mode.label);
+        TableUtils.renderTable(new String[]{"Threads", "Total ops/s", "Mean ops/s per thread",
+                "Min ops/s per thread", "Max ops/s per thread", "Speedup"}, rows);
+        return results;
+    }
+
+    /**
+     * Runs the benchmark on the given number of threads for a fixed duration.
+     * All threads are started and parked before the window opens, so thread
+     * start-up cost is not counted. Virtual threads that never block are not
+     * preempted, so more virtual threads than carrier threads will not all make progress.
+     *
+     * @param benchmark Benchmark task, which must be safe to run concurrently.
+     * @param threads   Number of threads running the task.
+     * @param mode      Whether to use platform or virtual threads.
+     * @param duration  How long the measurement window stays open.
+     * @return Operations completed by each thread during the window.
+     * @throws IllegalStateException if the benchmark throws on any thread, with the first exception as its cause.
+     */
+    public static ThroughputResult measureThroughput(Benchmark benchmark, int threads, ThreadMode mode, Duration duration) {
+        Asserts.isPositive(threads, IllegalArgumentException.class, "Thread count must be positive");
+        Asserts.isTrue(!duration.isNegative() && !duration.isZero(), IllegalArgumentException.class, "Duration must be positive");
+
+        long[] opsPerThread = new long[threads];
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> workers = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            int id = i;
+            workers.add(mode.builder().name(benchmark.getName() + "-" + i).start(() -> {
+                ready.countDown();
+                awaitUninterruptibly(start);
+                long ops = 0;
+                try {
+                    while (running.get()) {
+                        benchmark.invoke();
+                        ops++;
+                    }
+                } catch (Throwable ex) {
+                    failure.compareAndSet(null, ex);
+                    running.set(false);
+                }
+                opsPerThread[id] = ops;
+            }));
+        }
+
+        try {
+            benchmark.beforeConcurrentTrial();
+        } catch (RuntimeException ex) {
+            running.set(false);
+            start.countDown();
+            throw ex;
+        }
+        try {
+            ready.await();
+            long startTime = System.nanoTime();
+            start.countDown();
+            Thread.sleep(duration);
+            running.set(false);
+            long elapsed = System.nanoTime() - startTime;
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            throwIfFailed(benchmark, failure);
+            return new ThroughputResult(benchmark.getName(), mode, opsPerThread, elapsed);
+        } catch (InterruptedException ex) {
+            running.set(false);
+            start.countDown();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while measuring throughput", ex);
+        } finally {
+            benchmark.afterConcurrentTrial();
+        }
+    }
+
+    /**
+     * Fires the benchmark at each target rate in turn and prints a latency-versus-throughput
+     * table, which shows the rate at which queueing delay starts to dominate.
+     *
+     * @param benchmark    Benchmark task, which must be safe to run concurrently.
+     * @param stepDuration How long each rate is held.
+     * @param rates        Target rates in operations per second, typically increasing.
+     * @return Result of every step, in order.
+     */
+    public static List<LoadTestResult> runLoadRamp(Benchmark benchmark, Duration stepDuration, double... rates) {
+        List<LoadTestResult> results = new ArrayList<>(rates.length);
+        for (double rate : rates) {
+            results.add(measureOpenLoop(benchmark, rate, stepDuration));
+        }
+
+        String[][] rows = results.stream()
+                .map(result -> new String[]{
+                        String.format("%.0f", result.getTargetRate()),
+                        String.format("%.0f", result.getAchievedRate()),
+                        String.valueOf(result.getHistogram().getValueAtPercentile(50)),
+                        String.valueOf(result.getHistogram().getValueAtPercentile(99)),
+                        String.valueOf(result.getHistogram().getValueAtPercentile(99.9)),
+                        String.valueOf(result.getHistogram().getMax())
+                })
+                .toArray(String[][]::new);
+        System.out.printf("%s - Open-loop latency vs throughput%n", benchmark.getName());
+        TableUtils.renderTable(new String[]{"Target ops/s", "Achieved ops/s", "p50 (ns)", "p99 (ns)", "p99.9 (ns)", "Max (ns)"}, rows);
+        return results;
+    }
+
+    /**
+     * Fires the benchmark at a fixed rate, independent of how fast earlier calls complete.
+     * Call {@code i} is scheduled at {@code start + i / rate} and runs on its own virtual
+     * thread; its latency is measured from that scheduled time rather than from when it
+     * actually started, which corrects for coordinated omission. When the generator falls
+     * behind schedule it fires the overdue calls immediately instead of skipping them.
+     *
+     * @param benchmark Benchmark task, which must be safe to run concurrently.
+     * @param rate      Target rate in operations per second.
+     * @param duration  How long to keep firing.
+     * @return The achieved rate and the latency distribution.
+     * @throws IllegalStateException if any call throws, with the first exception as its cause.
+     */
+    public static LoadTestResult measureOpenLoop(Benchmark benchmark, double rate, Duration duration) {
+        Asserts.isPositive(rate, IllegalArgumentException.class, "Rate must be positive");
+        long operations = Math.max(1, (long) (rate * duration.toNanos() / 1e9));
+        double intervalNanos = 1e9 / rate;
+        LatencyHistogram[] stripes = new LatencyHistogram[LOAD_STRIPES];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new LatencyHistogram();
+        }
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        long startTime;
+        benchmark.beforeConcurrentTrial();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            startTime = System.nanoTime();
+            for (long i = 0; i < operations && failure.get() == null; i++) {
+                long intendedStart = startTime + (long) (i * intervalNanos);
+                waitUntil(intendedStart);
+                LatencyHistogram stripe = stripes[(int) (i & (LOAD_STRIPES - 1))];
+                executor.execute(() -> {
+                    try {
+                        benchmark.invoke();
+                    } catch (Throwable ex) {
+                        failure.compareAndSet(null, ex);
+                        return;
+                    }
+                    long latency = System.nanoTime() - intendedStart;
+                    synchronized (stripe) {
+                        stripe.record(latency);
+                    }
+                });
+            }
+        } finally {
+            benchmark.afterConcurrentTrial();
+        }
+        long elapsed = System.nanoTime() - startTime;
+        throwIfFailed(benchmark, failure);
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (LatencyHistogram stripe : stripes) {
+            histogram.add(stripe);
+        }
+        return new LoadTestResult(benchmark.getName(), rate, operations, elapsed, histogram);
+    }
+
+    /**
+     * Parks until shortly before the deadline, then spins, since parking alone
+     * overshoots by tens of microseconds.
+     */
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * Rethrows the first exception thrown by the benchmark on another thread, so that a
+     * failing benchmark is not reported as merely slow.
+     */
+    private static void throwIfFailed(Benchmark benchmark, AtomicReference<Throwable> failure) {
+        Throwable cause = failure.get();
+        if (cause != null) {
+            throw new IllegalStateException("Benchmark " + benchmark.getName() + " failed", cause);
+        }
+    }
+
+    private static List<Integer> scalingSteps(int maxThreads) {
+        List<Integer> steps = new ArrayList<>();
+        for (int threads = 1; threads < maxThreads; threads <<= 1) {
+            steps.add(threads);
+        }
+        steps.add(maxThreads);
+        return steps;
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException ex) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Measures without allocating: a single number goes into {@code result} and a
+     * latency distribution into {@code histogram}. Compares instead of switching, since
+     * an enum switch initializes its lookup table on first use.
+     *
+     * @return Number of times the task ran.
+     */
+    private static long measureInto(BenchmarkType type, long iterations, Benchmark benchmark,
+                                    LatencyHistogram histogram, double[] result) {
+        if (type == BenchmarkType.LATENCY) {
+            benchmark.measureLatency(iterations, histogram);
+        } else if (type == BenchmarkType.CALIBRATED_AVG_TIME) {
+            result[0] = benchmark.measureCalibratedAvgTime(iterations);
+        } else if (type == BenchmarkType.MAX_TIME) {
+            result[0] = benchmark.measureMaxTime(iterations);
+        } else {
+            result[0] = benchmark.measureAvgTime(iterations);
+        }
+        return benchmark.getTrialInvocations();
+    }
+
+    private static String format(BenchmarkType type, double nanos) {
+        return type == BenchmarkType.CALIBRATED_AVG_TIME ? String.format("%.2f ns", nanos) : (long) nanos + " ns";
+    }
+
+    private static String measure(BenchmarkType type, long iterations, Benchmark benchmark) {
+        if (type == BenchmarkType.LATENCY) {
+            return benchmark.measureLatency(iterations).summary();
+        }
+        if (type == BenchmarkType.CALIBRATED_AVG_TIME) {
+            return String.format("%.2f ns", benchmark.measureCalibratedAvgTime(iterations));
+        }
+        return getExecTime(type, iterations, benchmark) + " ns";
+    }
+
+    /**
+     * Measures a single number of the given type. For {@link BenchmarkType#LATENCY}
+     * this is the mean of the recorded distribution.
+     */
+    static long getExecTime(BenchmarkType type, long iterations, Benchmark benchmark) {
         return switch (type) {
             case AVG_TIME -> benchmark.measureAvgTime(iterations);
             case MAX_TIME -> benchmark.measureMaxTime(iterations);
+            case LATENCY -> Math.round(benchmark.measureLatency(iterations).getMean());
+            case CALIBRATED_AVG_TIME -> Math.round(benchmark.measureCalibratedAvgTime(iterations));
             default -> 0;
         };
     }
 
     public enum BenchmarkType {
         AVG_TIME("Average Time"),
-        MAX_TIME("Max Time");
+        MAX_TIME("Max Time"),
+        LATENCY("Latency"),
+        CALIBRATED_AVG_TIME("Calibrated Average Time");
 
         public final String label;
 
@@ -55,4 +593,19 @@ public class BenchmarkRunner {
             this.label = label;
         }
     }
+
+    public enum ThreadMode {
+        PLATFORM("platform"),
+        VIRTUAL("virtual");
+
+        public final String label;
+
+        ThreadMode(String label) {
+            this.label = label;
+        }
+
+        Thread.Builder builder() {
+            return this == VIRTUAL ? Thread.ofVirtual() : Thread.ofPlatform();
+        }
+    }
 }
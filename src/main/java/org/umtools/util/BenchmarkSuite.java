@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+/**
+ * A named set of benchmarks that can be recreated from its class alone.
+ * <p>
+ * {@link ForkedBenchmarkRunner} instantiates the suite inside each child JVM through
+ * its public no-argument constructor, so implementations must provide one and must
+ * return benchmarks with the same names every time.
+ * </p>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public interface BenchmarkSuite {
+
+    /**
+     * Creates the benchmarks of this suite.
+     *
+     * @return the benchmarks, with unique names
+     */
+    Benchmark[] benchmarks();
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * A sink for benchmark results that the JIT compiler cannot prove to be unused.
+ * <p>
+ * Each {@code consume} method compares the value against volatile fields that are
+ * never equal to each other, so the comparison can never succeed but the value must
+ * still be computed. Objects are occasionally published to a volatile field for the
+ * same reason. This keeps pure computations from being removed as dead code.
+ * </p>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public final class Blackhole {
+
+    private volatile int int1 = 1;
+    private volatile int int2 = 2;
+    private volatile long long1 = 1;
+    private volatile long long2 = 2;
+    private volatile double double1 = 1;
+    private volatile double double2 = 2;
+    private volatile boolean boolean1;
+    private volatile boolean boolean2 = true;
+    // Written but never read: the write alone is what makes the value escape.
+    @SuppressWarnings("PMD.UnusedPrivateField")
+    private volatile WeakReference<Object> published;
+
+    private int seed = (int) System.nanoTime();
+    private int publishMask = 1;
+
+    public void consume(int value) {
+        if (value == int1 & value == int2) {
+            throw new IllegalStateException("Blackhole invariant broken");
+        }
+    }
+
+    public void consume(long value) {
+        if (value == long1 & value == long2) {
+            throw new IllegalStateException("Blackhole invariant broken");
+        }
+    }
+
+    public void consume(double value) {
+        if (value == double1 & value == double2) {
+            throw new IllegalStateException("Blackhole invariant broken");
+        }
+    }
+
+    public void consume(boolean value) {
+        if (value == boolean1 & value == boolean2) {
+            throw new IllegalStateException("Blackhole invariant broken");
+        }
+    }
+
+    public void consume(Object value) {
+        // A cheap linear congruential step decides, with exponentially falling
+        // probability, whether this value escapes through the volatile field.
+        seed = seed * 1_664_525 + 1_013_904_223;
+        if ((seed & publishMask) == 0) {
+            published = new WeakReference<>(value);
+            publishMask = (publishMask << 1) + 1;
+        }
+    }
+}
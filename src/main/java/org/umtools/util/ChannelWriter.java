@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A buffered writer that encodes text as UTF-8 straight into a direct buffer and
+ * writes it to a {@link FileChannel} whenever the buffer fills.
+ * <p>
+ * Keeping one instance open for a whole run avoids opening and closing the file per
+ * write. Nothing is copied through an intermediate {@code byte[]}, and the only
+ * system calls are one {@code write} per full buffer and those made by {@link #flush()},
+ * {@link #force()} and {@link #close()}. Unpaired surrogates are written as {@code '?'}.
+ * </p>
+ * <p>
+ * Instances are not thread-safe; use {@link GroupCommitWriter} to share a file between threads.
+ * </p>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public class ChannelWriter extends Writer {
+
+    /**
+     * Default buffer size in bytes.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final CharBuffer pending = CharBuffer.allocate(2);
+    private boolean closed;
+
+    /**
+     * Opens a file for writing, creating it if needed.
+     *
+     * @param file       the file
+     * @param append     true to write after the existing content, false to truncate it
+     * @param bufferSize the buffer size in bytes, at least 16
+     * @throws IOException if the file cannot be opened
+     */
+    public ChannelWriter(Path file, boolean append, int bufferSize) throws IOException {
+        Asserts.isTrue(bufferSize >= 16, IllegalArgumentException.class, "Buffer size must be at least 16 bytes");
+        this.channel = append
+                ? FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)
+                : FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+        encode(CharBuffer.wrap(chars, offset, length));
+    }
+
+    @Override
+    public void write(String text, int offset, int length) throws IOException {
+        encode(CharBuffer.wrap(text, offset, offset + length));
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        encode(CharBuffer.wrap(new char[]{(char) c}));
+    }
+
+    @Override
+    public Writer append(CharSequence text) throws IOException {
+        CharSequence chars = text == null ? "null" : text;
+        encode(CharBuffer.wrap(chars));
+        return this;
+    }
+
+    /**
+     * Writes the text followed by a line feed.
+     *
+     * @param text the text
+     * @throws IOException if writing fails
+     */
+    public void writeLine(CharSequence text) throws IOException {
+        append(text);
+        encode(CharBuffer.wrap("\n"));
+    }
+
+    /**
+     * Writes buffered bytes to the file. They may still sit in the operating system's
+     * cache; see {@link #force()}.
+     *
+     * @throws IOException if writing fails
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        drain();
+    }
+
+    /**
+     * Writes buffered bytes and waits until the file's content reaches the storage device.
+     *
+     * @throws IOException if writing fails
+     */
+    public void force() throws IOException {
+        flush();
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            if (pending.position() > 0) {
+                pending.flip();
+                encodeFully(pending, true);
+                pending.clear();
+            }
+            drain();
+        } finally {
+            closed = true;
+            channel.close();
+        }
+    }
+
+    /**
+     * Encodes the characters into the buffer, draining it to the file whenever it fills.
+     * A trailing high surrogate is held back until the next write supplies its pair.
+     */
+    private void encode(CharBuffer chars) throws IOException {
+        ensureOpen();
+        while (pending.position() > 0 && chars.hasRemaining()) {
+            pending.put(chars.get()).flip();
+            encodeFully(pending, false);
+            pending.compact();
+        }
+        encodeFully(chars, false);
+        if (chars.hasRemaining()) {
+            pending.put(chars);
+        }
+    }
+
+    private void encodeFully(CharBuffer chars, boolean endOfInput) throws IOException {
+        while (true) {
+            CoderResult result = encoder.encode(chars, buffer, endOfInput);
+            if (!result.isOverflow()) {
+                break;
+            }
+            drain();
+        }
+        if (endOfInput) {
+            while (encoder.flush(buffer).isOverflow()) {
+                drain();
+            }
+            encoder.reset();
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Writer is closed");
+        }
+    }
+}
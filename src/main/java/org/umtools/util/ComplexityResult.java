@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Timings of a {@link ScalingBenchmark} at each input size, fitted against common
+ * complexity classes.
+ * <p>
+ * Each class {@code f} is fitted as {@code time ~ c * f(n)} by least squares on the
+ * relative residuals {@code (time - c * f(n)) / time}, so every size counts equally
+ * instead of the largest sizes dominating the fit. The best fit is the class with the
+ * lowest root-mean-square relative error. Sizes with a zero time are ignored.
+ * </p>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public class ComplexityResult {
+
+    private final String name;
+    private final long[] sizes;
+    private final double[] times;
+    private final Map<Complexity, Double> coefficients = new EnumMap<>(Complexity.class);
+    private final Map<Complexity, Double> errors = new EnumMap<>(Complexity.class);
+    private final Complexity bestFit;
+
+    /**
+     * Fits the timings against every complexity class.
+     *
+     * @param name  the name of the benchmark
+     * @param sizes the input sizes
+     * @param times the average time in ns at each size
+     */
+    public ComplexityResult(String name, long[] sizes, double[] times) {
+        Asserts.equalInt(sizes.length, times.length, IllegalArgumentException.class, "Sizes and times must have the same length");
+        this.name = name;
+        this.sizes = sizes.clone();
+        this.times = times.clone();
+
+        Complexity best = Complexity.O_1;
+        for (Complexity complexity : Complexity.values()) {
+            // Minimizing sum((1 - c * f / t)^2) gives c = sum(f / t) / sum((f / t)^2).
+            double ratios = 0;
+            double squares = 0;
+            int points = 0;
+            for (int i = 0; i < sizes.length; i++) {
+                if (times[i] > 0) {
+                    double ratio = complexity.apply(sizes[i]) / times[i];
+                    ratios += ratio;
+                    squares += ratio * ratio;
+                    points++;
+                }
+            }
+            double coefficient = points == 0 ? 0 : ratios / squares;
+            double squaredError = 0;
+            for (int i = 0; i < sizes.length; i++) {
+                if (times[i] > 0) {
+                    double residual = 1 - coefficient * complexity.apply(sizes[i]) / times[i];
+                    squaredError += residual * residual;
+                }
+            }
+            double error = points == 0 ? 0 : Math.sqrt(squaredError / points);
+            coefficients.put(complexity, coefficient);
+            errors.put(complexity, error);
+            if (error < errors.get(best)) {
+                best = complexity;
+            }
+        }
+        this.bestFit = best;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long[] getSizes() {
+        return sizes.clone();
+    }
+
+    public double[] getTimes() {
+        return times.clone();
+    }
+
+    public Complexity getBestFit() {
+        return bestFit;
+    }
+
+    /**
+     * Returns the fitted constant {@code c} of {@code time ~ c * f(n)}.
+     *
+     * @param complexity the complexity class
+     * @return the coefficient in ns
+     */
+    public double getCoefficient(Complexity complexity) {
+        return coefficients.get(complexity);
+    }
+
+    /**
+     * Returns the root-mean-square of the fit's residuals, each relative to its measured time.
+     *
+     * @param complexity the complexity class
+     * @return the relative error, e.g. 0.05 for 5%
+     */
+    public double getError(Complexity complexity) {
+        return errors.get(complexity);
+    }
+
+    /**
+     * Prints the measurements with the time per unit of the best-fit class, followed by
+     * the error of every class.
+     */
+    public void print() {
+        String[][] rows = new String[sizes.length][];
+        for (int i = 0; i < sizes.length; i++) {
+            rows[i] = new String[]{
+                    String.valueOf(sizes[i]),
+                    String.format("%.2f", times[i]),
+                    String.format("%.4f", times[i] / bestFit.apply(sizes[i]))
+            };
+        }
+        System.out.printf("%s - Best fit: %s (c = %.4f ns, RMS error %.1f%%)%n",
+                name, bestFit.label, getCoefficient(bestFit), getError(bestFit) * 100);
+        TableUtils.renderTable(new String[]{"n", "Time (ns)", "Time / " + bestFit.label}, rows);
+        StringBuilder fits = new StringBuilder("Fit errors:");
+        for (Complexity complexity : Complexity.values()) {
+            fits.append(String.format(" %s %.1f%%", complexity.label, getError(complexity) * 100));
+        }
+        System.out.println(fits);
+    }
+
+    public enum Complexity {
+        O_1("O(1)", n -> 1),
+        O_LOG_N("O(log n)", n -> Math.log(Math.max(n, 2))),
+        O_N("O(n)", n -> n),
+        O_N_LOG_N("O(n log n)", n -> n * Math.log(Math.max(n, 2))),
+        O_N_SQUARED("O(n^2)", n -> n * n);
+
+        public final String label;
+        private final DoubleUnaryOperator function;
+
+        Complexity(String label, DoubleUnaryOperator function) {
+            this.label = label;
+            this.function = function;
+        }
+
+        public double apply(double n) {
+            return function.applyAsDouble(n);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * A byte-level CSV state machine that can be fed its input in arbitrary chunks.
+ * <p>
+ * Bytes of selected columns are collected into one reusable buffer and decoded once per
+ * field; bytes of other columns are only scanned. Follows RFC 4180 with a lenient reading
+ * of stray quotes: a quote in the middle of an unquoted field is kept literally, and text
+ * after a closing quote is appended to the field. Blank lines are skipped.
+ * </p>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+final class CsvParser {
+
+    private static final byte QUOTE = '"';
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private final byte delimiter;
+    private final int[] slots;
+    private final int width;
+    private final Consumer<String[]> sink;
+
+    private State state = State.FIELD_START;
+    private byte[] field = new byte[64];
+    private int fieldLength;
+    private int column;
+    private String[] row;
+    private long records;
+    private boolean stopped;
+
+    /**
+     * @param delimiter the field delimiter, an ASCII character
+     * @param columns   the columns to keep, in output order, or null to keep all
+     * @param sink      receives every record
+     */
+    CsvParser(char delimiter, int[] columns, Consumer<String[]> sink) {
+        this.delimiter = (byte) delimiter;
+        this.sink = sink;
+        if (columns == null) {
+            this.slots = null;
+            this.width = 8;
+        } else {
+            int maxColumn = Arrays.stream(columns).max().orElse(-1);
+            this.slots = new int[maxColumn + 1];
+            Arrays.fill(slots, -1);
+            for (int i = 0; i < columns.length; i++) {
+                slots[columns[i]] = i;
+            }
+            this.width = columns.length;
+        }
+        this.row = new String[width];
+    }
+
+    /**
+     * Parses the remaining bytes of the buffer, advancing its position.
+     */
+    void feed(ByteBuffer bytes) {
+        int limit = bytes.limit();
+        for (int i = bytes.position(); i < limit && !stopped; i++) {
+            accept(bytes.get(i));
+        }
+        bytes.position(limit);
+    }
+
+    /**
+     * Ends the input, emitting a final record that lacks a line terminator.
+     *
+     * @throws IllegalArgumentException if the input ends inside a quoted field
+     */
+    void finish() {
+        if (stopped) {
+            return;
+        }
+        Asserts.isTrue(state != State.QUOTED, IllegalArgumentException.class,
+                "Unterminated quoted field in record %d", records + 1);
+        if (state != State.FIELD_START || column > 0) {
+            endRecord();
+        }
+    }
+
+    /**
+     * Makes the parser ignore all further input.
+     */
+    void stop() {
+        stopped = true;
+    }
+
+    boolean isStopped() {
+        return stopped;
+    }
+
+    /**
+     * Returns whether the input ended inside a quoted field so far.
+     */
+    boolean inQuotedField() {
+        return state == State.QUOTED;
+    }
+
+    private void accept(byte b) {
+        switch (state) {
+            case FIELD_START -> {
+                if (b == QUOTE) {
+                    state = State.QUOTED;
+                } else if (b == delimiter) {
+                    endField();
+                } else if (b == LINE_FEED) {
+                    if (column > 0) {
+                        endRecord();
+                    }
+                } else if (b != CARRIAGE_RETURN || column > 0) {
+                    append(b);
+                    state = State.UNQUOTED;
+                }
+            }
+            case UNQUOTED -> {
+                if (b == delimiter) {
+                    endField();
+                } else if (b == LINE_FEED) {
+                    endRecord();
+                } else {
+                    append(b);
+                }
+            }
+            case QUOTED -> {
+                if (b == QUOTE) {
+                    state = State.QUOTE_IN_QUOTED;
+                } else {
+                    append(b);
+                }
+            }
+            case QUOTE_IN_QUOTED -> {
+                if (b == QUOTE) {
+                    append(b);
+                    state = State.QUOTED;
+                } else if (b == delimiter) {
+                    endField();
+                } else if (b == LINE_FEED) {
+                    endRecord();
+                } else if (b != CARRIAGE_RETURN) {
+                    append(b);
+                    state = State.AFTER_QUOTE;
+                }
+            }
+            case AFTER_QUOTE -> {
+                if (b == delimiter) {
+                    endField();
+                } else if (b == LINE_FEED) {
+                    endRecord();
+                } else if (b != CARRIAGE_RETURN) {
+                    append(b);
+                }
+            }
+        }
+    }
+
+    private void append(byte b) {
+        if (slots != null && (column >= slots.length || slots[column] < 0)) {
+            return;
+        }
+        if (fieldLength == field.length) {
+            field = Arrays.copyOf(field, fieldLength * 2);
+        }
+        field[fieldLength++] = b;
+    }
+
+    private void endField() {
+        endField(false);
+    }
+
+    /**
+     * Stores the field if its column is selected. At the end of a record, a carriage
+     * return ending an unquoted field is the first half of a CRLF terminator and is dropped.
+     */
+    private void endField(boolean endOfRecord) {
+        int slot = slots == null ? column : column < slots.length ? slots[column] : -1;
+        if (slot >= 0) {
+            if (slot >= row.length) {
+                row = Arrays.copyOf(row, row.length * 2);
+            }
+            int length = fieldLength;
+            if (endOfRecord && state == State.UNQUOTED && length > 0 && field[length - 1] == CARRIAGE_RETURN) {
+                length--;
+            }
+            row[slot] = new String(field, 0, length, StandardCharsets.UTF_8);
+        }
+        fieldLength = 0;
+        column++;
+        state = State.FIELD_START;
+    }
+
+    private void endRecord() {
+        endField(true);
+        String[] record;
+        if (slots == null) {
+            record = Arrays.copyOf(row, column);
+            Arrays.fill(row, 0, Math.min(column, row.length), null);
+        } else {
+            record = row;
+            for (int i = 0; i < record.length; i++) {
+                if (record[i] == null) {
+                    record[i] = "";
+                }
+            }
+            row = new String[width];
+        }
+        column = 0;
+        records++;
+        sink.accept(record);
+    }
+
+    private enum State {
+        FIELD_START,
+        UNQUOTED,
+        QUOTED,
+        QUOTE_IN_QUOTED,
+        AFTER_QUOTE
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * Reads UTF-8 CSV files by scanning their bytes, without first building a {@code String}
+ * of the file or of each line.
+ * <p>
+ * Quoted fields may contain delimiters, doubled quotes and line breaks. With
+ * {@link #select(int...)}, only the chosen columns are decoded into strings and the
+ * others are skipped byte by byte. {@link #readAllParallel(Path)} parses memory-mapped
+ * splits of the file on all cores. Rows can be passed to
+ * {@link TableUtils#renderTable(String[], List)}, or rendered directly with
+ * {@link TableUtils#renderCsv(Path, CsvReader)}.
+ * </p>
+ * <p>
+ * A reader only holds its settings, so one instance can read many files, also concurrently.
+ * </p>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public class CsvReader {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private char delimiter = ',';
+    private boolean header;
+    private int[] columns;
+
+    /**
+     * Sets the field delimiter. The default is a comma.
+     *
+     * @param delimiter an ASCII character other than a quote or line break
+     * @return this reader
+     */
+    public CsvReader delimiter(char delimiter) {
+        Asserts.isTrue(delimiter < 128 && delimiter != '"' && delimiter != '\n' && delimiter != '\r',
+                IllegalArgumentException.class, "Delimiter must be an ASCII character other than a quote or line break");
+        this.delimiter = delimiter;
+        return this;
+    }
+
+    /**
+     * Treats the first record as a header, which {@link #readHeader(Path)} returns and the
+     * other methods skip.
+     *
+     * @return this reader
+     */
+    public CsvReader withHeader() {
+        this.header = true;
+        return this;
+    }
+
+    /**
+     * Projects every record onto the given columns, in the given order. Missing columns
+     * read as empty strings.
+     *
+     * @param columns zero-based column indices
+     * @return this reader
+     */
+    public CsvReader select(int... columns) {
+        for (int column : columns) {
+            Asserts.isTrue(column >= 0, IllegalArgumentException.class, "Column indices cannot be negative");
+        }
+        this.columns = columns.clone();
+        return this;
+    }
+
+    /**
+     * Reads the first record of the file, projected like every other record.
+     *
+     * @param file the file
+     * @return the first record, or an empty array if the file has none
+     * @throws UncheckedIOException if reading fails
+     */
+    public String[] readHeader(Path file) {
+        String[][] first = new String[1][];
+        CsvParser[] parser = new CsvParser[1];
+        parser[0] = new CsvParser(delimiter, columns, record -> {
+            first[0] = record;
+            parser[0].stop();
+        });
+        parse(file, parser[0]);
+        return first[0] == null ? new String[0] : first[0];
+    }
+
+    /**
+     * Passes every record to the action as it is parsed, reading the file through one
+     * reused buffer, so memory use does not depend on the file size.
+     *
+     * @param file   the file
+     * @param action receives each record
+     * @throws UncheckedIOException     if reading fails
+     * @throws IllegalArgumentException if the file ends inside a quoted field
+     */
+    public void forEach(Path file, Consumer<String[]> action) {
+        parse(file, new CsvParser(delimiter, columns, skippingHeader(action)));
+    }
+
+    /**
+     * Reads every record.
+     *
+     * @param file the file
+     * @return the records, in file order
+     * @throws UncheckedIOException     if reading fails
+     * @throws IllegalArgumentException if the file ends inside a quoted field
+     */
+    public List<String[]> readAll(Path file) {
+        List<String[]> records = new ArrayList<>();
+        forEach(file, records::add);
+        return records;
+    }
+
+    /**
+     * Reads every record into an array, as {@link TableUtils#renderTable(String[], String[][])} takes.
+     *
+     * @param file the file
+     * @return the records, in file order
+     */
+    public String[][] readTable(Path file) {
+        return readAll(file).toArray(String[][]::new);
+    }
+
+    /**
+     * Reads every record by parsing {@link FileUtils#mapSplits(Path) memory-mapped splits}
+     * of the file in parallel. Splits are cut at line breaks; if one of them turns out to
+     * be a quoted line break, the file is read again {@link #readAll(Path) sequentially}.
+     *
+     * @param file the file
+     * @return the records, in file order
+     * @throws UncheckedIOException     if reading or mapping fails
+     * @throws IllegalArgumentException if the file ends inside a quoted field
+     */
+    public List<String[]> readAllParallel(Path file) {
+        return readAllParallel(file, ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    /**
+     * Reads every record by parsing the given number of memory-mapped splits in parallel.
+     *
+     * @param file  the file
+     * @param parts the desired number of splits
+     * @return the records, in file order
+     * @throws UncheckedIOException     if reading or mapping fails
+     * @throws IllegalArgumentException if the file ends inside a quoted field
+     * @see #readAllParallel(Path)
+     */
+    public List<String[]> readAllParallel(Path file, int parts) {
+        List<ByteBuffer> splits = FileUtils.mapSplits(file, parts);
+        List<Optional<List<String[]>>> parsed = splits.parallelStream()
+                .map(this::parseSplit)
+                .toList();
+        List<String[]> records = new ArrayList<>();
+        for (Optional<List<String[]>> part : parsed) {
+            if (part.isEmpty()) {
+                return readAll(file);
+            }
+            records.addAll(part.get());
+        }
+        if (header && !records.isEmpty()) {
+            records.remove(0);
+        }
+        return records;
+    }
+
+    boolean hasHeader() {
+        return header;
+    }
+
+    /**
+     * Parses one split, or returns empty if it ends inside a quoted field, in which case
+     * the split was cut at a quoted line break and the next split starts mid-field.
+     */
+    private Optional<List<String[]>> parseSplit(ByteBuffer split) {
+        List<String[]> records = new ArrayList<>();
+        CsvParser parser = new CsvParser(delimiter, columns, records::add);
+        parser.feed(split);
+        if (parser.inQuotedField()) {
+            return Optional.empty();
+        }
+        parser.finish();
+        return Optional.of(records);
+    }
+
+    private Consumer<String[]> skippingHeader(Consumer<String[]> action) {
+        if (!header) {
+            return action;
+        }
+        boolean[] skipped = new boolean[1];
+        return record -> {
+            if (skipped[0]) {
+                action.accept(record);
+            } else {
+                skipped[0] = true;
+            }
+        };
+    }
+
+    private static void parse(Path file, CsvParser parser) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (!parser.isStopped() && channel.read(buffer.clear()) >= 0) {
+                parser.feed(buffer.flip());
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read file: " + file, ex);
+        }
+        parser.finish();
+    }
+}
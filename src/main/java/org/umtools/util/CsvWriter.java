@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Writes UTF-8 CSV records through a {@link ChannelWriter}, in the format {@link CsvReader} reads.
+ * <p>
+ * Fields containing the delimiter, a quote or a line break are quoted, with quotes
+ * doubled; all other fields are written as they are, except that a lone empty field is
+ * quoted. Records end with a line feed.
+ * Instances are not thread-safe.
+ * </p>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public class CsvWriter implements AutoCloseable {
+
+    private final ChannelWriter writer;
+    private final char delimiter;
+
+    /**
+     * Opens a comma-separated file for writing.
+     *
+     * @param file   the file, created if needed
+     * @param append true to write after the existing content, false to truncate it
+     * @throws UncheckedIOException if the file cannot be opened
+     */
+    public CsvWriter(Path file, boolean append) {
+        this(file, append, ',');
+    }
+
+    /**
+     * Opens a CSV file with the given delimiter for writing.
+     *
+     * @param file      the file, created if needed
+     * @param append    true to write after the existing content, false to truncate it
+     * @param delimiter the field delimiter
+     * @throws UncheckedIOException if the file cannot be opened
+     */
+    public CsvWriter(Path file, boolean append, char delimiter) {
+        this.writer = FileUtils.newWriter(file, append);
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Writes one record. A null field is written as an empty one. A record of a single
+     * empty field is written as {@code ""}, since an empty line would be read as no record.
+     *
+     * @param fields the fields
+     * @throws UncheckedIOException if writing fails
+     */
+    public void writeRow(String... fields) {
+        try {
+            if (fields.length == 1 && (fields[0] == null || fields[0].isEmpty())) {
+                writer.write("\"\"\n");
+                return;
+            }
+            for (int i = 0; i < fields.length; i++) {
+                if (i > 0) {
+                    writer.write(delimiter);
+                }
+                writeField(fields[i] == null ? "" : fields[i]);
+            }
+            writer.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write CSV record", ex);
+        }
+    }
+
+    /**
+     * Writes every record in order.
+     *
+     * @param rows the records
+     * @throws UncheckedIOException if writing fails
+     */
+    public void writeAll(List<String[]> rows) {
+        for (String[] row : rows) {
+            writeRow(row);
+        }
+    }
+
+    /**
+     * Writes buffered records to the file.
+     *
+     * @throws UncheckedIOException if writing fails
+     */
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to flush CSV file", ex);
+        }
+    }
+
+    /**
+     * Writes buffered records and closes the file.
+     *
+     * @throws UncheckedIOException if writing or closing fails
+     */
+    @Override
+    public void close() {
+        try {
+            writer.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to close CSV file", ex);
+        }
+    }
+
+    private void writeField(String field) throws IOException {
+        if (!needsQuotes(field)) {
+            writer.write(field);
+            return;
+        }
+        writer.write('"');
+        int start = 0;
+        int quote = field.indexOf('"');
+        while (quote >= 0) {
+            writer.write(field, start, quote + 1 - start);
+            writer.write('"');
+            start = quote + 1;
+            quote = field.indexOf('"', start);
+        }
+        writer.write(field, start, field.length() - start);
+        writer.write('"');
+    }
+
+    private boolean needsQuotes(String field) {
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == delimiter || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
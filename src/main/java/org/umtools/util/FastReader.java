@@ -0,0 +1,465 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+
+/**
+ * A buffered tokenizer that reads whitespace-separated tokens from an
+ * {@link InputStream} byte by byte.
+ * <p>
+ * Unlike {@link java.util.Scanner}, it matches no regular expressions and returns
+ * primitives without boxing, which makes bulk reads of numbers an order of magnitude
+ * faster. Integers are parsed straight from the bytes; decimals without an exponent and
+ * with at most 15 significant digits are computed exactly from their digits, and other
+ * decimals fall back to {@link Double#parseDouble(String)}. Text is decoded as UTF-8.
+ * </p>
+ * <p>
+ * As with a {@code Scanner}, {@link #nextLine()} after a token returns the rest of the
+ * token's line. The line and column where the last token or line started are tracked
+ * for error messages. Instances are not thread-safe.
+ * </p>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public class FastReader implements AutoCloseable {
+
+    /**
+     * Default size of the read buffer in bytes.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private static final int MAX_EXACT_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final InputStream in;
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+    private boolean endOfStream;
+    private long bufferOffset;
+    private long line = 1;
+    private long lineStart;
+    private long tokenLine = 1;
+    private long tokenColumn = 1;
+    private boolean lineBounded;
+    private byte[] token = new byte[64];
+    private int tokenLength;
+
+    /**
+     * Creates a reader with a buffer of {@value #DEFAULT_BUFFER_SIZE} bytes.
+     *
+     * @param in the stream to read
+     */
+    public FastReader(InputStream in) {
+        this(in, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a reader with the given buffer size. Use a small buffer for interactive
+     * input only if other code reads the same stream, since buffered bytes are not
+     * returned to it.
+     *
+     * @param in         the stream to read
+     * @param bufferSize the buffer size in bytes
+     */
+    public FastReader(InputStream in, int bufferSize) {
+        Asserts.isTrue(bufferSize > 0, IllegalArgumentException.class, "Buffer size must be positive");
+        this.in = in;
+        this.buffer = new byte[bufferSize];
+    }
+
+    /**
+     * Skips whitespace, including line breaks, and returns whether a token follows.
+     *
+     * @return true if another token is available
+     * @throws UncheckedIOException if reading fails
+     */
+    public boolean hasNext() {
+        int b = peek();
+        while (b >= 0 && b <= ' ') {
+            if (b == '\n') {
+                if (lineBounded) {
+                    return false;
+                }
+                newLine();
+            }
+            position++;
+            b = peek();
+        }
+        return b >= 0;
+    }
+
+    /**
+     * Returns whether any input, even an empty line, remains.
+     *
+     * @return true unless the end of the stream is reached
+     * @throws UncheckedIOException if reading fails
+     */
+    public boolean hasNextLine() {
+        return peek() >= 0;
+    }
+
+    /**
+     * Reads the next token.
+     *
+     * @return the token
+     * @throws NoSuchElementException if no token remains
+     * @throws UncheckedIOException   if reading fails
+     */
+    public String next() {
+        readToken();
+        return new String(token, 0, tokenLength, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the next token as an {@code int}.
+     *
+     * @return the value
+     * @throws InputMismatchException if the token is not an integer in range; the token is consumed
+     * @throws NoSuchElementException if no token remains
+     * @throws UncheckedIOException   if reading fails
+     */
+    public int nextInt() {
+        long value = nextLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new InputMismatchException("Integer out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Reads the next token as a {@code long}.
+     *
+     * @return the value
+     * @throws InputMismatchException if the token is not an integer in range; the token is consumed
+     * @throws NoSuchElementException if no token remains
+     * @throws UncheckedIOException   if reading fails
+     */
+    public long nextLong() {
+        readToken();
+        boolean negative = token[0] == '-';
+        int i = negative || token[0] == '+' ? 1 : 0;
+        if (i == tokenLength) {
+            throw mismatch("integer");
+        }
+        // Accumulate negatively, so that Long.MIN_VALUE is representable.
+        long value = 0;
+        for (; i < tokenLength; i++) {
+            int digit = token[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw mismatch("integer");
+            }
+            if (value < (Long.MIN_VALUE + digit) / 10) {
+                throw mismatch("long");
+            }
+            value = value * 10 - digit;
+        }
+        if (negative) {
+            return value;
+        }
+        if (value == Long.MIN_VALUE) {
+            throw mismatch("long");
+        }
+        return -value;
+    }
+
+    /**
+     * Reads the next token as a {@code double}.
+     *
+     * @return the value
+     * @throws InputMismatchException if the token is not a number; the token is consumed
+     * @throws NoSuchElementException if no token remains
+     * @throws UncheckedIOException   if reading fails
+     */
+    public double nextDouble() {
+        readToken();
+        boolean negative = token[0] == '-';
+        int i = negative || token[0] == '+' ? 1 : 0;
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean point = false;
+        boolean anyDigit = false;
+        for (; i < tokenLength; i++) {
+            byte b = token[i];
+            if (b >= '0' && b <= '9') {
+                if (digits > 0 || b != '0') {
+                    digits++;
+                }
+                mantissa = mantissa * 10 + b - '0';
+                anyDigit = true;
+                if (point) {
+                    fractionDigits++;
+                }
+            } else if (b == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+            if (digits > MAX_EXACT_DIGITS || fractionDigits >= POWERS_OF_TEN.length) {
+                break;
+            }
+        }
+        if (i < tokenLength || !anyDigit) {
+            return parseDouble();
+        }
+        // Both operands are exact, so the division is correctly rounded.
+        double value = mantissa / POWERS_OF_TEN[fractionDigits];
+        return negative ? -value : value;
+    }
+
+    /**
+     * Reads the rest of the current line. Directly after a token, this is the text
+     * following it, often an empty string.
+     *
+     * @return the line, without its {@code \n} or {@code \r\n} terminator
+     * @throws NoSuchElementException if the end of the stream is reached
+     * @throws UncheckedIOException   if reading fails
+     */
+    public String nextLine() {
+        if (peek() < 0) {
+            throw new NoSuchElementException("No line found");
+        }
+        markToken();
+        tokenLength = 0;
+        int b = peek();
+        while (b >= 0 && b != '\n') {
+            append((byte) b);
+            position++;
+            b = peek();
+        }
+        if (b == '\n' && !lineBounded) {
+            newLine();
+            position++;
+        }
+        int length = tokenLength > 0 && token[tokenLength - 1] == '\r' ? tokenLength - 1 : tokenLength;
+        return new String(token, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the one-based line number where the last token or line read started, or
+     * where a missing token was expected.
+     *
+     * @return the line number
+     */
+    public long getLineNumber() {
+        return tokenLine;
+    }
+
+    /**
+     * Returns the one-based column, counted in bytes, where the last token or line read
+     * started, or where a missing token was expected.
+     *
+     * @return the column number
+     */
+    public long getColumnNumber() {
+        return tokenColumn;
+    }
+
+    /**
+     * Reads the next {@code n} tokens as {@code int} values.
+     *
+     * @param n the number of values
+     * @return the values
+     * @throws InputMismatchException if a token is not an integer in range
+     * @throws NoSuchElementException if fewer than {@code n} tokens remain
+     */
+    public int[] readIntArray(int n) {
+        Asserts.isTrue(n >= 0, IllegalArgumentException.class, "Length cannot be negative");
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = nextInt();
+        }
+        return values;
+    }
+
+    /**
+     * Reads the next {@code n} tokens as {@code long} values.
+     *
+     * @param n the number of values
+     * @return the values
+     * @throws InputMismatchException if a token is not an integer in range
+     * @throws NoSuchElementException if fewer than {@code n} tokens remain
+     */
+    public long[] readLongArray(int n) {
+        Asserts.isTrue(n >= 0, IllegalArgumentException.class, "Length cannot be negative");
+        long[] values = new long[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = nextLong();
+        }
+        return values;
+    }
+
+    /**
+     * Reads the next {@code n} tokens as {@code double} values.
+     *
+     * @param n the number of values
+     * @return the values
+     * @throws InputMismatchException if a token is not a number
+     * @throws NoSuchElementException if fewer than {@code n} tokens remain
+     */
+    public double[] readDoubleArray(int n) {
+        Asserts.isTrue(n >= 0, IllegalArgumentException.class, "Length cannot be negative");
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = nextDouble();
+        }
+        return values;
+    }
+
+    /**
+     * Reads the next {@code rows * cols} tokens as a row-major matrix of {@code double}
+     * values. Line breaks are not significant. Pass the result to {@link Matrix#of(double[][])}
+     * for matrix arithmetic.
+     *
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @return the matrix
+     * @throws InputMismatchException if a token is not a number
+     * @throws NoSuchElementException if too few tokens remain
+     */
+    public double[][] readDoubleMatrix(int rows, int cols) {
+        Asserts.isTrue(rows >= 0 && cols >= 0, IllegalArgumentException.class, "Dimensions cannot be negative");
+        double[][] matrix = new double[rows][];
+        for (int i = 0; i < rows; i++) {
+            matrix[i] = readDoubleArray(cols);
+        }
+        return matrix;
+    }
+
+    /**
+     * Closes the underlying stream.
+     *
+     * @throws IOException if closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * Confines reads to the current line: while set, {@link #hasNext()} stops at a line
+     * feed instead of skipping it, reading a token there fails, and {@link #nextLine()}
+     * leaves the line feed unread.
+     */
+    void setLineBounded(boolean lineBounded) {
+        this.lineBounded = lineBounded;
+    }
+
+    /**
+     * Discards the rest of the current line, including its line feed.
+     */
+    void skipLine() {
+        int b = peek();
+        while (b >= 0 && b != '\n') {
+            position++;
+            b = peek();
+        }
+        if (b == '\n') {
+            newLine();
+            position++;
+        }
+    }
+
+    private double parseDouble() {
+        String text = new String(token, 0, tokenLength, StandardCharsets.ISO_8859_1);
+        char last = text.charAt(text.length() - 1);
+        if (last == 'd' || last == 'D' || last == 'f' || last == 'F') {
+            // Java type suffixes are accepted by parseDouble, but are not numbers here.
+            throw mismatch("double");
+        }
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException ex) {
+            throw mismatch("double");
+        }
+    }
+
+    private InputMismatchException mismatch(String type) {
+        return new InputMismatchException("Not a valid " + type + ": "
+                + new String(token, 0, tokenLength, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Copies the next token into the token buffer.
+     */
+    private void readToken() {
+        boolean found = hasNext();
+        markToken();
+        if (!found) {
+            throw new NoSuchElementException(lineBounded ? "Missing value" : "No token found");
+        }
+        tokenLength = 0;
+        int b = peek();
+        while (b > ' ') {
+            append((byte) b);
+            position++;
+            b = peek();
+        }
+    }
+
+    private void markToken() {
+        tokenLine = line;
+        tokenColumn = bufferOffset + position - lineStart + 1;
+    }
+
+    /**
+     * Counts the line feed at the current position, which the caller consumes.
+     */
+    private void newLine() {
+        line++;
+        lineStart = bufferOffset + position + 1;
+    }
+
+    private void append(byte b) {
+        if (tokenLength == token.length) {
+            token = Arrays.copyOf(token, tokenLength * 2);
+        }
+        token[tokenLength++] = b;
+    }
+
+    /**
+     * Returns the next byte without consuming it, or -1 at the end of the stream.
+     */
+    private int peek() {
+        if (position == limit) {
+            fill();
+            if (position == limit) {
+                return -1;
+            }
+        }
+        return buffer[position] & 0xff;
+    }
+
+    private void fill() {
+        if (endOfStream) {
+            return;
+        }
+        try {
+            int read = in.read(buffer, 0, buffer.length);
+            bufferOffset += limit;
+            position = 0;
+            if (read < 0) {
+                limit = 0;
+                endOfStream = true;
+            } else {
+                limit = read;
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read input", ex);
+        }
+    }
+}
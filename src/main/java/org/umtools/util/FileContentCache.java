@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe cache of UTF-8 file contents, bounded by their total size in bytes.
+ * <p>
+ * Every {@link #read(Path)} reads the file's attributes, which costs one {@code stat}
+ * instead of a full read. The cached content is returned only if the file's last
+ * modified time and size are unchanged; otherwise the file is read again. A change
+ * that keeps both the size and the modified time, within the file system's time
+ * resolution, goes unnoticed, so call {@link #invalidate(Path)} after such writes.
+ * </p>
+ * <p>
+ * When the cached bytes exceed the bound, the least recently read files are evicted.
+ * Files larger than the whole bound are read but never cached. Concurrent reads of the
+ * same version of a file share a single disk read.
+ * </p>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public class FileContentCache {
+
+    private final long maxBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Path, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Version, CompletableFuture<String>> loading = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private long currentBytes;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maxBytes the maximum total size of cached files in bytes
+     */
+    public FileContentCache(long maxBytes) {
+        Asserts.isTrue(maxBytes > 0, IllegalArgumentException.class, "Maximum size must be positive");
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the content of a file, from the cache if the file has not changed since it
+     * was cached.
+     *
+     * @param file the file
+     * @return the content
+     * @throws UncheckedIOException if the file cannot be read
+     */
+    public String read(Path file) {
+        Path key = file.toAbsolutePath().normalize();
+        Version version = versionOf(key);
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.version.equals(version)) {
+                hits.increment();
+                return entry.content;
+            }
+        } finally {
+            lock.unlock();
+        }
+        misses.increment();
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> future = loading.putIfAbsent(version, created);
+        if (future == null) {
+            load(version, created);
+            future = created;
+        }
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof UncheckedIOException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Removes a file from the cache.
+     *
+     * @param file the file
+     */
+    public void invalidate(Path file) {
+        Path key = file.toAbsolutePath().normalize();
+        lock.lock();
+        try {
+            Entry entry = entries.remove(key);
+            if (entry != null) {
+                currentBytes -= entry.version.size;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes every file from the cache.
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            entries.clear();
+            currentBytes = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns how many reads were served from the cache.
+     *
+     * @return the number of hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns how many reads found no valid cached content. Reads that waited for a
+     * concurrent load of the same file count as misses, but cause no extra disk read.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns how many times a file was read from disk. Fewer loads than misses means
+     * concurrent reads were coalesced.
+     *
+     * @return the number of loads
+     */
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    /**
+     * Returns how many files were evicted to stay within the size bound.
+     *
+     * @return the number of evictions
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the total size of the cached files.
+     *
+     * @return the size in bytes
+     */
+    public long getCurrentBytes() {
+        lock.lock();
+        try {
+            return currentBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FileContentCache[%d/%d bytes, %d hits, %d misses, %d loads, %d evictions]",
+                getCurrentBytes(), maxBytes, getHitCount(), getMissCount(), getLoadCount(), getEvictionCount());
+    }
+
+    private void load(Version version, CompletableFuture<String> future) {
+        loads.increment();
+        try {
+            String content = Files.readString(version.path, StandardCharsets.UTF_8);
+            store(version, content);
+            future.complete(content);
+        } catch (IOException ex) {
+            future.completeExceptionally(new UncheckedIOException("Failed to read file: " + version.path, ex));
+        } catch (RuntimeException ex) {
+            future.completeExceptionally(ex);
+        } finally {
+            loading.remove(version, future);
+        }
+    }
+
+    private void store(Version version, String content) {
+        if (version.size > maxBytes) {
+            return;
+        }
+        lock.lock();
+        try {
+            Entry previous = entries.put(version.path, new Entry(version, content));
+            if (previous != null) {
+                currentBytes -= previous.version.size;
+            }
+            currentBytes += version.size;
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (currentBytes > maxBytes && eldest.hasNext()) {
+                Entry evicted = eldest.next();
+                eldest.remove();
+                currentBytes -= evicted.version.size;
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static Version versionOf(Path file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return new Version(file, attributes.lastModifiedTime(), attributes.size());
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read file: " + file, ex);
+        }
+    }
+
+    /**
+     * Identifies one state of a file, as far as its attributes tell.
+     */
+    private record Version(Path path, FileTime modified, long size) {
+    }
+
+    private record Entry(Version version, String content) {
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import java.nio.file.Path;
+
+/**
+ * A line of a file that matched a content search.
+ *
+ * @param file       the file
+ * @param lineNumber the one-based line number
+ * @param line       the line, without its terminator
+ * @author Ng, Zhi Yang
+ * @see FileUtils#search(Path, String, String)
+ * @since 1.0
+ */
+public record FileMatch(Path file, long lineNumber, String line) {
+
+    @Override
+    public String toString() {
+        return file + ":" + lineNumber + ":" + line;
+    }
+}
@@ -7,18 +7,48 @@ package org.umtools.util;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Utility class for file operations.
+ * <p>
+ * Besides whole-file helpers, it provides streaming reads for files too large to hold
+ * in memory: a lazy stream of lines, fixed-size chunk iteration, and memory-mapped
+ * splits cut at line boundaries so that a large file can be processed on all cores.
+ * Directory trees can be walked and searched in parallel, with results streamed back
+ * as they are found.
+ * The streaming methods throw {@link UncheckedIOException} on I/O errors.
+ * </p>
  *
  * @author Ng, Zhi Yang
  * @since 1.0
  */
 public class FileUtils {
 
+    /**
+     * Default chunk size for {@link #forEachChunk(Path, Consumer)}.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+    private static final long MAX_SPLIT_SIZE = Integer.MAX_VALUE;
+    private static final int BOUNDARY_SCAN_SIZE = 8192;
+
     private FileUtils() {
 
     }
@@ -39,6 +69,57 @@ public class FileUtils {
         }
     }
 
+    /**
+     * Opens a buffered UTF-8 writer on the file, to be kept open across many writes.
+     *
+     * @param file   the file, created if needed
+     * @param append true to write after the existing content, false to truncate it
+     * @return the writer
+     * @throws UncheckedIOException if the file cannot be opened
+     * @see #newWriter(Path, boolean, int)
+     */
+    public static ChannelWriter newWriter(Path file, boolean append) {
+        return newWriter(file, append, ChannelWriter.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Opens a UTF-8 writer on the file that encodes into a direct buffer of the given
+     * size and writes it to a {@link FileChannel} when full. Unlike {@link #writeFile},
+     * which opens and truncates the file on every call, one writer serves a whole run.
+     *
+     * @param file       the file, created if needed
+     * @param append     true to write after the existing content, false to truncate it
+     * @param bufferSize the buffer size in bytes
+     * @return the writer
+     * @throws UncheckedIOException if the file cannot be opened
+     */
+    public static ChannelWriter newWriter(Path file, boolean append, int bufferSize) {
+        try {
+            return new ChannelWriter(file, append, bufferSize);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open file: " + file, ex);
+        }
+    }
+
+    /**
+     * Opens a writer that many threads can share, batching their writes into one
+     * {@code write}, and optionally one {@code force}, per commit.
+     *
+     * @param file          the file, created if needed
+     * @param append        true to write after the existing content, false to truncate it
+     * @param forceOnCommit true to make every batch durable before its writes complete
+     * @return the writer
+     * @throws UncheckedIOException if the file cannot be opened
+     * @see GroupCommitWriter
+     */
+    public static GroupCommitWriter newGroupCommitWriter(Path file, boolean append, boolean forceOnCommit) {
+        try {
+            return new GroupCommitWriter(file, append, forceOnCommit);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open file: " + file, ex);
+        }
+    }
+
     /**
      * Reads the content of the file at the given path as string.
      *
@@ -54,6 +135,20 @@ public class FileUtils {
         }
     }
 
+    /**
+     * Reads the content of the file at the given path as string through a cache, so an
+     * unchanged file is only read from disk once.
+     *
+     * @param filePath the path of the file to read
+     * @param cache    the cache holding recently read files
+     * @return the content of the file as a string
+     * @throws UncheckedIOException if the file cannot be read, naming the file
+     * @see FileContentCache
+     */
+    public static String readFileAsString(String filePath, FileContentCache cache) {
+        return cache.read(Paths.get(filePath));
+    }
+
     /**
      * Concatenates the paths with the file separator.
      *
@@ -86,4 +181,233 @@ public class FileUtils {
     public static String getFileName(String filePath) {
         return filePath.substring(filePath.lastIndexOf("/") + 1);
     }
+
+    /**
+     * Returns the lines of a UTF-8 file as a lazily populated stream. Only the lines
+     * being processed are held in memory. The stream holds the file open, so close it,
+     * e.g. with try-with-resources.
+     *
+     * @param file the file
+     * @return the lines, without line terminators
+     * @throws UncheckedIOException if the file cannot be opened, or reading it fails
+     */
+    public static Stream<String> lines(Path file) {
+        try {
+            return Files.lines(file, StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read file: " + file, ex);
+        }
+    }
+
+    /**
+     * Reads a file in chunks of {@value #DEFAULT_CHUNK_SIZE} bytes.
+     *
+     * @param file   the file
+     * @param action receives each chunk
+     * @throws UncheckedIOException if reading fails
+     * @see #forEachChunk(Path, int, Consumer)
+     */
+    public static void forEachChunk(Path file, Consumer<ByteBuffer> action) {
+        forEachChunk(file, DEFAULT_CHUNK_SIZE, action);
+    }
+
+    /**
+     * Reads a file in chunks through a single reused direct buffer, so memory use does
+     * not depend on the file size. Each chunk is passed flipped, positioned at its first
+     * byte; every chunk but the last is full. The buffer is overwritten by the next chunk,
+     * so the action must copy any bytes it keeps.
+     *
+     * @param file      the file
+     * @param chunkSize the chunk size in bytes
+     * @param action    receives each chunk
+     * @throws UncheckedIOException if reading fails
+     */
+    public static void forEachChunk(Path file, int chunkSize, Consumer<ByteBuffer> action) {
+        Asserts.isTrue(chunkSize > 0, IllegalArgumentException.class, "Chunk size must be positive");
+        ByteBuffer buffer = ByteBuffer.allocateDirect(chunkSize);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            boolean endOfFile = false;
+            while (!endOfFile) {
+                buffer.clear();
+                while (buffer.hasRemaining() && !endOfFile) {
+                    endOfFile = channel.read(buffer) < 0;
+                }
+                if (buffer.position() > 0) {
+                    buffer.flip();
+                    action.accept(buffer);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read file: " + file, ex);
+        }
+    }
+
+    /**
+     * Maps a file into one read-only buffer per core, split at line boundaries.
+     *
+     * @param file the file
+     * @return the splits, in file order
+     * @throws UncheckedIOException if the file cannot be mapped
+     * @see #mapSplits(Path, int)
+     */
+    public static List<ByteBuffer> mapSplits(Path file) {
+        return mapSplits(file, ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    /**
+     * Maps a file into read-only buffers of roughly equal size, each ending just after a
+     * {@code '\n'} or at the end of the file, so no line spans two splits. The splits can
+     * be processed in parallel without copying the file onto the heap. A split is at most
+     * 2 GiB, so large files get more splits than requested.
+     *
+     * @param file  the file
+     * @param parts the desired number of splits
+     * @return the non-empty splits, in file order
+     * @throws UncheckedIOException if the file cannot be mapped
+     */
+    public static List<ByteBuffer> mapSplits(Path file, int parts) {
+        Asserts.isTrue(parts > 0, IllegalArgumentException.class, "Number of parts must be positive");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long splitSize = Math.max(1, Math.min(MAX_SPLIT_SIZE / 2, (size + parts - 1) / parts));
+            List<ByteBuffer> splits = new ArrayList<>();
+            long start = 0;
+            while (start < size) {
+                long end = start + splitSize >= size ? size : nextLineStart(channel, start + splitSize, size);
+                if (end - start > MAX_SPLIT_SIZE) {
+                    throw new IllegalStateException("Line starting before offset " + (start + splitSize) + " is longer than 2 GiB");
+                }
+                splits.add(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start));
+                start = end;
+            }
+            return splits;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to map file: " + file, ex);
+        }
+    }
+
+    /**
+     * Returns the lines of a UTF-8 file as a parallel stream over its {@link #mapSplits(Path)}.
+     * Lines are decoded lazily, one at a time, and are unordered across splits.
+     *
+     * @param file the file
+     * @return the lines, without line terminators
+     * @throws UncheckedIOException if the file cannot be mapped
+     */
+    public static Stream<String> parallelLines(Path file) {
+        return mapSplits(file).parallelStream().flatMap(FileUtils::lines);
+    }
+
+    /**
+     * Returns the UTF-8 lines of a buffer, such as one of the {@link #mapSplits(Path)},
+     * as a lazily populated stream. Line terminators {@code \n} and {@code \r\n} are
+     * removed. The buffer's position is not changed.
+     *
+     * @param buffer the bytes
+     * @return the lines
+     */
+    public static Stream<String> lines(ByteBuffer buffer) {
+        ByteBuffer bytes = buffer.slice();
+        Spliterator<String> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super String> action) {
+                if (!bytes.hasRemaining()) {
+                    return false;
+                }
+                int start = bytes.position();
+                int end = start;
+                while (end < bytes.limit() && bytes.get(end) != '\n') {
+                    end++;
+                }
+                bytes.position(end < bytes.limit() ? end + 1 : end);
+                if (end > start && bytes.get(end - 1) == '\r') {
+                    end--;
+                }
+                byte[] line = new byte[end - start];
+                bytes.get(start, line);
+                action.accept(new String(line, StandardCharsets.UTF_8));
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Finds the regular files under a directory whose names match a glob, such as
+     * {@code "*.java"}. A glob containing {@code '/'}, such as {@code "src/**&#47;*.java"},
+     * is matched against the path relative to the root instead. A root that is a single
+     * file is returned only if its name matches.
+     * <p>
+     * Directories are listed in parallel on a dedicated fork-join pool, and files are
+     * streamed back as they are found, in no particular order. Symbolic links are not
+     * followed. Close the stream to stop the walk early.
+     * </p>
+     *
+     * @param root the directory to walk, or a single file
+     * @param glob the glob to match
+     * @return the matching files
+     * @throws UncheckedIOException if the root cannot be read, or, from the stream, if a
+     *                              directory cannot be listed
+     */
+    public static Stream<Path> find(Path root, String glob) {
+        return FileWalker.find(root, glob);
+    }
+
+    /**
+     * Searches the UTF-8 files under a directory whose names match a glob for lines
+     * containing the given text. Files are walked as by {@link #find(Path, String)} and
+     * searched in parallel; files of 1 MiB or more are
+     * memory-mapped. The text is compared as bytes, so only matching lines are decoded.
+     * Matches are streamed back as each file is searched, in line order within a file.
+     *
+     * @param root    the directory to walk, or a single file
+     * @param glob    the glob that names of searched files match
+     * @param literal the text to find, a non-empty single line
+     * @return the matching lines
+     * @throws UncheckedIOException if the root cannot be read, or, from the stream, if a
+     *                              directory or file cannot be read
+     */
+    public static Stream<FileMatch> search(Path root, String glob, String literal) {
+        return FileWalker.search(root, glob, literal);
+    }
+
+    /**
+     * Searches the UTF-8 files under a directory whose names match a glob for lines in
+     * which the pattern finds a match.
+     *
+     * @param root    the directory to walk, or a single file
+     * @param glob    the glob that names of searched files match
+     * @param pattern the pattern, applied to each line without its terminator
+     * @return the matching lines
+     * @throws UncheckedIOException if the root cannot be read, or, from the stream, if a
+     *                              directory or file cannot be read
+     * @see #search(Path, String, String)
+     */
+    public static Stream<FileMatch> search(Path root, String glob, Pattern pattern) {
+        return FileWalker.search(root, glob, pattern);
+    }
+
+    /**
+     * Returns the offset just after the first {@code '\n'} at or after {@code from}, or
+     * {@code size} if there is none.
+     */
+    private static long nextLineStart(FileChannel channel, long from, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BOUNDARY_SCAN_SIZE);
+        long position = from;
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
 }
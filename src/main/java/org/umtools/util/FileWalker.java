@@ -0,0 +1,370 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Walks a directory tree on a fork-join pool and streams back what it finds.
+ * <p>
+ * Every directory is listed by its own task, so sibling directories are read
+ * concurrently. Results are published in batches, one per directory or file, to a queue
+ * that the returned stream drains as the walk proceeds. The pool has more threads than
+ * cores, because walking mostly waits on the file system. Symbolic links are not followed.
+ * </p>
+ *
+ * @param <T> the type of results
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+final class FileWalker<T> {
+
+    /**
+     * Files of at least this size are memory-mapped instead of read onto the heap.
+     */
+    static final long MAP_THRESHOLD = 1 << 20;
+
+    private static final int PARALLELISM = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+
+    private final Path root;
+    private final PathMatcher matcher;
+    private final boolean matchFileName;
+    private final FileVisitor<T> visitor;
+    private final boolean forkFiles;
+    private final BlockingQueue<List<T>> results = new LinkedBlockingQueue<>();
+    private final List<T> end = new ArrayList<>();
+    private volatile boolean cancelled;
+    private volatile RuntimeException failure;
+
+    /**
+     * @param root      the directory to walk, or a single file, which is matched by name
+     * @param glob      matched against file names, or against paths relative to the root
+     *                  if it contains a {@code '/'}
+     * @param visitor   produces the results for each matching file
+     * @param forkFiles true to visit every file in its own task, for visitors that read files
+     */
+    private FileWalker(Path root, String glob, FileVisitor<T> visitor, boolean forkFiles) {
+        this.root = root;
+        this.matcher = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+        this.matchFileName = glob.indexOf('/') < 0;
+        this.visitor = visitor;
+        this.forkFiles = forkFiles;
+    }
+
+    /**
+     * Streams the regular files under the root whose names match the glob.
+     */
+    static Stream<Path> find(Path root, String glob) {
+        return new FileWalker<Path>(root, glob, (file, size, out) -> out.add(file), false).start();
+    }
+
+    /**
+     * Streams the lines of matching files that contain the literal. The literal is
+     * searched as UTF-8 bytes, so only matching lines are decoded.
+     */
+    static Stream<FileMatch> search(Path root, String glob, String literal) {
+        Asserts.isTrue(!literal.isEmpty() && literal.indexOf('\n') < 0, IllegalArgumentException.class,
+                "Search text must be a non-empty single line");
+        byte[] needle = literal.getBytes(StandardCharsets.UTF_8);
+        return new FileWalker<FileMatch>(root, glob,
+                (file, size, out) -> searchLiteral(file, buffersOf(file, size), needle, out),
+                true).start();
+    }
+
+    /**
+     * Streams the lines of matching files in which the pattern finds a match.
+     */
+    static Stream<FileMatch> search(Path root, String glob, Pattern pattern) {
+        return new FileWalker<FileMatch>(root, glob,
+                (file, size, out) -> searchPattern(file, buffersOf(file, size), pattern, out),
+                true).start();
+    }
+
+    private Stream<T> start() {
+        BasicFileAttributes attributes = attributesOf(root);
+        ForkJoinPool pool = new ForkJoinPool(PARALLELISM);
+        pool.execute(() -> {
+            try {
+                if (attributes.isDirectory()) {
+                    new DirectoryTask(root).invoke();
+                } else if (attributes.isRegularFile() && matcher.matches(root.getFileName())) {
+                    new FileTask(root, attributes.size()).invoke();
+                }
+            } catch (RuntimeException ex) {
+                fail(ex);
+            } finally {
+                results.add(end);
+                pool.shutdown();
+            }
+        });
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.NONNULL) {
+            private List<T> batch = List.of();
+            private int next;
+            private boolean finished;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                while (next == batch.size()) {
+                    if (finished || !takeBatch()) {
+                        return false;
+                    }
+                }
+                action.accept(batch.get(next++));
+                return true;
+            }
+
+            private boolean takeBatch() {
+                try {
+                    batch = results.take();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    cancelled = true;
+                    finished = true;
+                    return false;
+                }
+                next = 0;
+                if (batch == end) {
+                    finished = true;
+                    if (failure != null) {
+                        throw failure;
+                    }
+                    return false;
+                }
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(() -> cancelled = true);
+    }
+
+    private boolean matches(Path file) {
+        return matcher.matches(matchFileName ? file.getFileName() : root.relativize(file));
+    }
+
+    private void publish(List<T> batch) {
+        if (!batch.isEmpty()) {
+            results.add(batch);
+        }
+    }
+
+    private void fail(RuntimeException ex) {
+        if (failure == null) {
+            failure = ex;
+        }
+        cancelled = true;
+    }
+
+    private static BasicFileAttributes attributesOf(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read attributes of " + path, ex);
+        }
+    }
+
+    /**
+     * Returns the content of a file as buffers that end at line boundaries: the whole file
+     * read onto the heap if it is small, or its memory-mapped splits if it is large.
+     */
+    private static List<ByteBuffer> buffersOf(Path file, long size) throws IOException {
+        if (size >= MAP_THRESHOLD) {
+            return FileUtils.mapSplits(file, 1);
+        }
+        return List.of(ByteBuffer.wrap(Files.readAllBytes(file)));
+    }
+
+    /**
+     * Finds the needle by scanning for its first byte and comparing the rest, counting
+     * line feeds on the way, and decodes only the lines that contain it. Line numbers
+     * continue from one buffer to the next.
+     */
+    static void searchLiteral(Path file, List<ByteBuffer> buffers, byte[] needle, List<FileMatch> out) {
+        long lineNumber = 1;
+        byte first = needle[0];
+        for (ByteBuffer buffer : buffers) {
+            int limit = buffer.limit();
+            int lineStart = 0;
+            int i = 0;
+            while (i <= limit - needle.length) {
+                byte b = buffer.get(i);
+                if (b == '\n') {
+                    lineNumber++;
+                    lineStart = i + 1;
+                    i++;
+                } else if (b == first && startsWith(buffer, i, needle)) {
+                    int lineEnd = lineEnd(buffer, i + needle.length);
+                    out.add(new FileMatch(file, lineNumber, decodeLine(buffer, lineStart, lineEnd)));
+                    i = lineEnd;
+                } else {
+                    i++;
+                }
+            }
+            for (; i < limit; i++) {
+                if (buffer.get(i) == '\n') {
+                    lineNumber++;
+                }
+            }
+        }
+    }
+
+    static void searchPattern(Path file, List<ByteBuffer> buffers, Pattern pattern, List<FileMatch> out) {
+        long lineNumber = 1;
+        Matcher matcher = pattern.matcher("");
+        for (ByteBuffer buffer : buffers) {
+            int lineStart = 0;
+            while (lineStart < buffer.limit()) {
+                int lineEnd = lineEnd(buffer, lineStart);
+                String line = decodeLine(buffer, lineStart, lineEnd);
+                if (matcher.reset(line).find()) {
+                    out.add(new FileMatch(file, lineNumber, line));
+                }
+                lineNumber++;
+                lineStart = lineEnd + 1;
+            }
+        }
+    }
+
+    private static boolean startsWith(ByteBuffer buffer, int offset, byte[] prefix) {
+        for (int j = 1; j < prefix.length; j++) {
+            if (buffer.get(offset + j) != prefix[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the offset of the first {@code '\n'} at or after {@code from}, or the limit.
+     */
+    private static int lineEnd(ByteBuffer buffer, int from) {
+        int i = from;
+        while (i < buffer.limit() && buffer.get(i) != '\n') {
+            i++;
+        }
+        return i;
+    }
+
+    private static String decodeLine(ByteBuffer buffer, int start, int end) {
+        int length = end > start && buffer.get(end - 1) == '\r' ? end - start - 1 : end - start;
+        byte[] line = new byte[length];
+        buffer.get(start, line);
+        return new String(line, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Produces the results for one matching file.
+     */
+    @FunctionalInterface
+    interface FileVisitor<T> {
+
+        /**
+         * @param file the file
+         * @param size the file size in bytes
+         * @param out  receives the results
+         * @throws IOException if reading the file fails
+         */
+        void visit(Path file, long size, List<T> out) throws IOException;
+    }
+
+    private final class DirectoryTask extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient Path directory;
+
+        DirectoryTask(Path directory) {
+            this.directory = directory;
+        }
+
+        @Override
+        protected void compute() {
+            if (cancelled) {
+                return;
+            }
+            List<ForkJoinTask<?>> tasks = new ArrayList<>();
+            List<T> found = new ArrayList<>();
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+                for (Path entry : entries) {
+                    BasicFileAttributes attributes = Files.readAttributes(entry, BasicFileAttributes.class,
+                            LinkOption.NOFOLLOW_LINKS);
+                    if (attributes.isDirectory()) {
+                        tasks.add(new DirectoryTask(entry));
+                    } else if (attributes.isRegularFile() && matches(entry)) {
+                        if (forkFiles) {
+                            tasks.add(new FileTask(entry, attributes.size()));
+                        } else {
+                            visitor.visit(entry, attributes.size(), found);
+                        }
+                    }
+                }
+            } catch (IOException ex) {
+                fail(new UncheckedIOException("Failed to list directory: " + directory, ex));
+                return;
+            } catch (UncheckedIOException ex) {
+                fail(ex);
+                return;
+            }
+            publish(found);
+            invokeAll(tasks);
+        }
+    }
+
+    private final class FileTask extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient Path file;
+        private final long size;
+
+        FileTask(Path file, long size) {
+            this.file = file;
+            this.size = size;
+        }
+
+        @Override
+        protected void compute() {
+            if (cancelled) {
+                return;
+            }
+            List<T> found = new ArrayList<>();
+            try {
+                visitor.visit(file, size, found);
+            } catch (IOException ex) {
+                fail(new UncheckedIOException("Failed to read file: " + file, ex));
+                return;
+            } catch (UncheckedIOException ex) {
+                fail(ex);
+                return;
+            }
+            publish(found);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs benchmarks in freshly forked child JVMs.
+ * <p>
+ * When many benchmarks share one JVM, the JIT profile gathered for the first one
+ * (for example a monomorphic {@code task.run()} call site) is invalidated by the
+ * next, which skews every benchmark after it. Forking gives each trial of each
+ * benchmark a clean JVM. The child runs only the requested benchmark of a
+ * {@link BenchmarkSuite}, prints its result on standard output, and the parent
+ * aggregates the results of all forks.
+ * </p>
+ * <p>
+ * Children inherit the parent's JVM arguments, such as
+ * {@code --add-modules jdk.incubator.vector}, so they run the same code paths as
+ * in-process benchmarks. Agents and debugger options are left out, since a second JVM
+ * would clash with the first over their ports and output files.
+ * </p>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public final class ForkedBenchmarkRunner {
+
+    private static final String RESULT_PREFIX = "# um-tools result: ";
+
+    private ForkedBenchmarkRunner() {
+    }
+
+    /**
+     * Runs every benchmark of the suite in {@code forks} separate child JVMs and prints
+     * the aggregated result of each.
+     *
+     * @param suite            Suite class with a public no-argument constructor.
+     * @param type             Type of execution time to measure.
+     * @param forks            Number of child JVMs per benchmark, each contributing one sample.
+     * @param warmupIterations Number of warmup iterations inside each child.
+     * @param iterations       Number of measured iterations inside each child.
+     * @param jvmFlags         Extra flags for the child JVMs, e.g. {@code -Xmx1g}, added after
+     *                         the inherited arguments so they take precedence.
+     * @return Statistics of each benchmark in ns, keyed by name in suite order.
+     */
+    public static Map<String, TrialStatistics> runBenchmarks(Class<? extends BenchmarkSuite> suite, BenchmarkRunner.BenchmarkType type,
+                                                             int forks, long warmupIterations, long iterations, List<String> jvmFlags) {
+        Asserts.isPositive(forks, IllegalArgumentException.class, "Fork count must be positive");
+        Map<String, TrialStatistics> results = new LinkedHashMap<>();
+        for (Benchmark benchmark : instantiate(suite.getName()).benchmarks()) {
+            double[] samples = new double[forks];
+            for (int i = 0; i < forks; i++) {
+                samples[i] = runFork(suite, benchmark.getName(), type, warmupIterations, iterations, jvmFlags);
+            }
+            TrialStatistics statistics = TrialStatistics.of(samples);
+            results.put(benchmark.getName(), statistics);
+            System.out.printf("%s - %s (%d forks): %s%n", benchmark.getName(), type.label, forks, statistics);
+        }
+        return results;
+    }
+
+    /**
+     * Entry point of a child JVM.
+     *
+     * @param args suite class name, benchmark name, benchmark type, warmup iterations, iterations
+     */
+    public static void main(String[] args) {
+        Asserts.equalInt(args.length, 5, IllegalArgumentException.class,
+                "Usage: ForkedBenchmarkRunner <suite> <benchmark> <type> <warmupIterations> <iterations>");
+        Benchmark benchmark = findBenchmark(instantiate(args[0]), args[1]);
+        BenchmarkRunner.BenchmarkType type = BenchmarkRunner.BenchmarkType.valueOf(args[2]);
+        long warmupIterations = Long.parseLong(args[3]);
+        long iterations = Long.parseLong(args[4]);
+
+        if (warmupIterations > 0) {
+            benchmark.measureAvgTime(warmupIterations);
+        }
+        System.out.println(RESULT_PREFIX + BenchmarkRunner.getExecTime(type, iterations, benchmark));
+    }
+
+    private static double runFork(Class<? extends BenchmarkSuite> suite, String benchmarkName, BenchmarkRunner.BenchmarkType type,
+                                  long warmupIterations, long iterations, List<String> jvmFlags) {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(inheritedArguments(ManagementFactory.getRuntimeMXBean().getInputArguments()));
+        command.addAll(jvmFlags);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ForkedBenchmarkRunner.class.getName());
+        command.add(suite.getName());
+        command.add(benchmarkName);
+        command.add(type.name());
+        command.add(String.valueOf(warmupIterations));
+        command.add(String.valueOf(iterations));
+
+        try {
+            Process process = new ProcessBuilder(command)
+                    .redirectError(ProcessBuilder.Redirect.INHERIT)
+                    .start();
+            Double result = null;
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.startsWith(RESULT_PREFIX)) {
+                        result = Double.valueOf(line.substring(RESULT_PREFIX.length()).trim());
+                    } else {
+                        System.out.println("  [fork] " + line);
+                    }
+                }
+            }
+            int exitCode = process.waitFor();
+            if (exitCode != 0 || result == null) {
+                throw new IllegalStateException("Forked benchmark " + benchmarkName + " failed with exit code " + exitCode);
+            }
+            return result;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to fork benchmark " + benchmarkName, ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for forked benchmark " + benchmarkName, ex);
+        }
+    }
+
+    /**
+     * Returns the JVM arguments a child should inherit: all of them except agents and
+     * debugger options.
+     */
+    static List<String> inheritedArguments(List<String> inputArguments) {
+        List<String> inherited = new ArrayList<>(inputArguments.size());
+        for (String argument : inputArguments) {
+            if (!argument.startsWith("-agentlib:") && !argument.startsWith("-agentpath:")
+                    && !argument.startsWith("-javaagent:") && !argument.startsWith("-Xrunjdwp")
+                    && !"-Xdebug".equals(argument)) {
+                inherited.add(argument);
+            }
+        }
+        return inherited;
+    }
+
+    private static BenchmarkSuite instantiate(String className) {
+        try {
+            return Class.forName(className)
+                    .asSubclass(BenchmarkSuite.class)
+                    .getConstructor()
+                    .newInstance();
+        } catch (ClassNotFoundException | NoSuchMethodException | InstantiationException
+                 | IllegalAccessException | InvocationTargetException ex) {
+            throw new IllegalArgumentException("Cannot instantiate benchmark suite " + className, ex);
+        }
+    }
+
+    private static Benchmark findBenchmark(BenchmarkSuite suite, String name) {
+        for (Benchmark benchmark : suite.benchmarks()) {
+            if (benchmark.getName().equals(name)) {
+                return benchmark;
+            }
+        }
+        throw new IllegalArgumentException("No benchmark named " + name + " in " + suite.getClass().getName());
+    }
+}
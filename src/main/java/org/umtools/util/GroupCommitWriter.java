@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A file writer shared by many threads that commits their writes in groups.
+ * <p>
+ * Each write is encoded as UTF-8 by the calling thread and appended to a pending batch.
+ * A single committer thread repeatedly takes the whole batch, writes it with one
+ * {@code write} call and, if durability is requested, one {@code force} call, then
+ * completes the futures of every write in it. While one batch is being committed the
+ * next one fills up, so under load the cost of each system call, and especially of
+ * {@code force}, is shared by all writes that arrived meanwhile.
+ * </p>
+ * <p>
+ * Writes from one thread reach the file in the order they were made. The lock is a
+ * {@link ReentrantLock}, so virtual threads can wait on futures without pinning a carrier.
+ * </p>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public class GroupCommitWriter implements AutoCloseable {
+
+    private static final int INITIAL_BATCH_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final boolean forceOnCommit;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition batchReady = lock.newCondition();
+    private final Thread committer;
+
+    private ByteBuffer batch = ByteBuffer.allocate(INITIAL_BATCH_SIZE);
+    private ByteBuffer committing = ByteBuffer.allocate(INITIAL_BATCH_SIZE);
+    private List<CompletableFuture<Void>> waiters = new ArrayList<>();
+    private boolean closed;
+    private long writeCount;
+    private long commitCount;
+
+    /**
+     * Opens a file for group-committed writing, creating it if needed.
+     *
+     * @param file          the file
+     * @param append        true to write after the existing content, false to truncate it
+     * @param forceOnCommit true to force every batch to the storage device before its
+     *                      writes complete, false to complete them once written
+     * @throws IOException if the file cannot be opened
+     */
+    public GroupCommitWriter(Path file, boolean append, boolean forceOnCommit) throws IOException {
+        this.channel = append
+                ? FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)
+                : FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.forceOnCommit = forceOnCommit;
+        this.committer = Thread.ofPlatform()
+                .name("group-commit-" + file.getFileName())
+                .daemon()
+                .start(this::commitLoop);
+    }
+
+    /**
+     * Queues text for the next batch.
+     *
+     * @param text the text
+     * @return a future completed once the batch holding the text is committed, or
+     * completed exceptionally with an {@link UncheckedIOException} if committing fails
+     */
+    public CompletableFuture<Void> write(CharSequence text) {
+        byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        lock.lock();
+        try {
+            Asserts.isTrue(!closed, IllegalStateException.class, "Writer is closed");
+            if (bytes.length == 0) {
+                return CompletableFuture.completedFuture(null);
+            }
+            if (batch.remaining() < bytes.length) {
+                batch = grow(batch, bytes.length);
+            }
+            batch.put(bytes);
+            waiters.add(future);
+            writeCount++;
+            batchReady.signal();
+        } finally {
+            lock.unlock();
+        }
+        return future;
+    }
+
+    /**
+     * Queues the text followed by a line feed for the next batch.
+     *
+     * @param text the text
+     * @return a future completed once the line is committed
+     */
+    public CompletableFuture<Void> writeLine(CharSequence text) {
+        return write(text + "\n");
+    }
+
+    /**
+     * Writes text and waits until it is committed.
+     *
+     * @param text the text
+     * @throws UncheckedIOException if committing fails
+     */
+    public void writeAndWait(CharSequence text) {
+        try {
+            write(text).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof UncheckedIOException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns how many writes were made.
+     *
+     * @return the number of writes
+     */
+    public long getWriteCount() {
+        lock.lock();
+        try {
+            return writeCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns how many batches were committed. Divide {@link #getWriteCount()} by this
+     * to get the average group size.
+     *
+     * @return the number of commits
+     */
+    public long getCommitCount() {
+        lock.lock();
+        try {
+            return commitCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Commits every queued write, stops the committer thread and closes the file.
+     *
+     * @throws IOException if closing the file fails
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            batchReady.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            committer.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void commitLoop() {
+        while (true) {
+            List<CompletableFuture<Void>> group;
+            lock.lock();
+            try {
+                while (batch.position() == 0 && !closed) {
+                    batchReady.awaitUninterruptibly();
+                }
+                if (batch.position() == 0) {
+                    return;
+                }
+                ByteBuffer full = batch;
+                batch = committing.clear();
+                committing = full.flip();
+                group = waiters;
+                waiters = new ArrayList<>();
+            } finally {
+                lock.unlock();
+            }
+            commit(group);
+        }
+    }
+
+    private void commit(List<CompletableFuture<Void>> group) {
+        try {
+            while (committing.hasRemaining()) {
+                channel.write(committing);
+            }
+            if (forceOnCommit) {
+                channel.force(false);
+            }
+            group.forEach(future -> future.complete(null));
+        } catch (IOException ex) {
+            UncheckedIOException failure = new UncheckedIOException("Failed to commit batch", ex);
+            group.forEach(future -> future.completeExceptionally(failure));
+        }
+        lock.lock();
+        try {
+            commitCount++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static ByteBuffer grow(ByteBuffer buffer, int needed) {
+        int capacity = Math.max(buffer.capacity() * 2, buffer.position() + needed);
+        ByteBuffer grown = ByteBuffer.allocate(capacity);
+        grown.put(buffer.flip());
+        return grown;
+    }
+}
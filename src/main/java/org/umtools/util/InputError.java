@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+/**
+ * An input record that could not be read, with the position of the offending value.
+ *
+ * @param line    the one-based line number
+ * @param column  the one-based column, counted in bytes
+ * @param message what was wrong
+ * @author Ng, Zhi Yang
+ * @see BatchInput
+ * @since 1.0
+ */
+public record InputError(long line, long column, String message) {
+
+    @Override
+    public String toString() {
+        return "Line " + line + ", column " + column + ": " + message;
+    }
+}
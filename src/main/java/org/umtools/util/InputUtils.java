@@ -4,26 +4,105 @@
  */
 package org.umtools.util;
 
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.InputMismatchException;
-import java.util.Scanner;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 /**
  * Utility class for handling validated user input from the console.
+ * <p>
+ * Input is read through a shared {@link FastReader} on {@code System.in}. Numeric
+ * prompts use {@link #validatedIntInput}, {@link #validatedLongInput} and
+ * {@link #validatedDoubleInput}, so values are never boxed; bulk data can be read
+ * from {@link #reader()} directly.
+ * </p>
+ * <p>
+ * In batch mode, prompts are not printed and invalid input is not retried: the first
+ * bad value throws an {@link InputMismatchException} giving its line and column. Input
+ * is interactive by default; batch mode is turned on by {@link #setInput(InputStream)},
+ * {@link #setBatchMode(boolean)} or the system property {@code umtools.input.batch=true}.
+ * It is not inferred from {@code System.in}, since {@link System#console()} is also null
+ * for interactive use under IDEs and build tools. To map whole files of records, use
+ * {@link BatchInput}.
+ * </p>
  *
  * @author Ng, Zhi Yang
  * @since 1.0
  */
 public final class InputUtils {
 
-    private static final Scanner SCANNER = new Scanner(System.in, StandardCharsets.UTF_8);
+    private static volatile FastReader reader = new FastReader(System.in);
+    private static volatile boolean batchMode = Boolean.getBoolean("umtools.input.batch");
 
     private InputUtils() {
 
     }
 
+    /**
+     * Returns the reader shared by all methods of this class, for reading bulk input such
+     * as {@link FastReader#readIntArray(int)} from {@code System.in}.
+     *
+     * @return the shared reader
+     */
+    public static FastReader reader() {
+        return reader;
+    }
+
+    /**
+     * Reads all further input from the stream, in batch mode. The previous input is
+     * not closed.
+     *
+     * @param in the stream to read
+     */
+    public static void setInput(InputStream in) {
+        reader = new FastReader(in);
+        batchMode = true;
+    }
+
+    /**
+     * Reads all further input from the file, in batch mode.
+     *
+     * @param file the file
+     * @throws UncheckedIOException if the file cannot be opened
+     * @see #setInput(InputStream)
+     */
+    public static void setInput(Path file) {
+        try {
+            setInput(Files.newInputStream(file));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open file: " + file, ex);
+        }
+    }
+
+    /**
+     * Turns batch mode on or off, overriding the {@code umtools.input.batch} property.
+     *
+     * @param enabled true to suppress prompts and fail on the first invalid input
+     */
+    public static void setBatchMode(boolean enabled) {
+        batchMode = enabled;
+    }
+
+    /**
+     * Returns whether prompts are suppressed and invalid input fails.
+     *
+     * @return true in batch mode
+     */
+    public static boolean isBatchMode() {
+        return batchMode;
+    }
+
     /**
      * Prompts the user for a string input.
      *
@@ -49,9 +128,9 @@ public final class InputUtils {
      * @since 1.0
      */
     public static int intInput(String message) {
-        return validatedTokenInput(
+        return validatedIntInput(
                 message,
-                nextInt(),
+                reader::nextInt,
                 i -> true,
                 "Please enter a valid integer value.",
                 "Invalid input."
@@ -66,9 +145,9 @@ public final class InputUtils {
      * @since 1.0
      */
     public static double doubleInput(String message) {
-        return validatedTokenInput(
+        return validatedDoubleInput(
                 message,
-                nextDouble(),
+                reader::nextDouble,
                 d -> true,
                 "Please enter a valid double value.",
                 "Invalid input."
@@ -83,9 +162,9 @@ public final class InputUtils {
      * @since 1.0
      */
     public static long longInput(String message) {
-        return validatedTokenInput(
+        return validatedLongInput(
                 message,
-                nextLong(),
+                reader::nextLong,
                 l -> true,
                 "Please enter a valid long value.",
                 "Invalid input."
@@ -107,20 +186,23 @@ public final class InputUtils {
      * @param errorMessage the message to display if an InputMismatchException occurs
      * @param invalidMsg   the message to display if the input fails validation
      * @return a validated input of type T
+     * @throws InputMismatchException in batch mode, if the input is malformed or invalid
      * @since 1.0
      */
     public static <T> T validatedLineInput(String message, Supplier<T> supplier, Predicate<T> validator, String errorMessage, String invalidMsg) {
         while (true) {
+            prompt(message);
+            T input;
             try {
-                System.out.print(message);
-                T input = supplier.get();
-                if (validator.test(input)) {
-                    return input;
-                }
-                System.out.println(invalidMsg);
+                input = supplier.get();
             } catch (InputMismatchException ex) {
-                System.out.println(errorMessage);
+                reject(errorMessage);
+                continue;
             }
+            if (validator.test(input)) {
+                return input;
+            }
+            reject(invalidMsg);
         }
     }
 
@@ -140,41 +222,163 @@ public final class InputUtils {
      * @param errorMessage the message to display if an InputMismatchException occurs
      * @param invalidMsg   the message to display if the input fails validation
      * @return a validated input of type T
+     * @throws InputMismatchException in batch mode, if the input is malformed or invalid
      * @since 1.0
      */
     public static <T> T validatedTokenInput(String message, Supplier<T> supplier, Predicate<T> validator, String errorMessage, String invalidMsg) {
         while (true) {
+            prompt(message);
+            T input;
             try {
-                System.out.print(message);
-                T input = supplier.get();
-                if (validator.test(input)) {
-                    return input;
-                }
-                System.out.println(invalidMsg);
+                input = supplier.get();
             } catch (InputMismatchException ex) {
-                System.out.println(errorMessage);
+                reject(errorMessage);
+                continue;
             } finally {
-                // If the expected token is not present, flush the rest of the line.
-                if (SCANNER.hasNextLine()) {
-                    SCANNER.nextLine();
-                }
+                flushLine();
+            }
+            if (validator.test(input)) {
+                return input;
             }
+            reject(invalidMsg);
+        }
+    }
+
+    /**
+     * Performs validated input of an {@code int} token without boxing.
+     *
+     * @param message      the prompt message to display to the user
+     * @param supplier     the supplier that provides the input, such as {@code reader()::nextInt}
+     * @param validator    a predicate to validate the input
+     * @param errorMessage the message to display if an InputMismatchException occurs
+     * @param invalidMsg   the message to display if the input fails validation
+     * @return a validated input
+     * @throws InputMismatchException in batch mode, if the input is malformed or invalid
+     * @see #validatedTokenInput(String, Supplier, Predicate, String, String)
+     * @since 1.0
+     */
+    public static int validatedIntInput(String message, IntSupplier supplier, IntPredicate validator, String errorMessage, String invalidMsg) {
+        while (true) {
+            prompt(message);
+            int input;
+            try {
+                input = supplier.getAsInt();
+            } catch (InputMismatchException ex) {
+                reject(errorMessage);
+                continue;
+            } finally {
+                flushLine();
+            }
+            if (validator.test(input)) {
+                return input;
+            }
+            reject(invalidMsg);
+        }
+    }
+
+    /**
+     * Performs validated input of a {@code long} token without boxing.
+     *
+     * @param message      the prompt message to display to the user
+     * @param supplier     the supplier that provides the input, such as {@code reader()::nextLong}
+     * @param validator    a predicate to validate the input
+     * @param errorMessage the message to display if an InputMismatchException occurs
+     * @param invalidMsg   the message to display if the input fails validation
+     * @return a validated input
+     * @throws InputMismatchException in batch mode, if the input is malformed or invalid
+     * @see #validatedTokenInput(String, Supplier, Predicate, String, String)
+     * @since 1.0
+     */
+    public static long validatedLongInput(String message, LongSupplier supplier, LongPredicate validator, String errorMessage, String invalidMsg) {
+        while (true) {
+            prompt(message);
+            long input;
+            try {
+                input = supplier.getAsLong();
+            } catch (InputMismatchException ex) {
+                reject(errorMessage);
+                continue;
+            } finally {
+                flushLine();
+            }
+            if (validator.test(input)) {
+                return input;
+            }
+            reject(invalidMsg);
+        }
+    }
+
+    /**
+     * Performs validated input of a {@code double} token without boxing.
+     *
+     * @param message      the prompt message to display to the user
+     * @param supplier     the supplier that provides the input, such as {@code reader()::nextDouble}
+     * @param validator    a predicate to validate the input
+     * @param errorMessage the message to display if an InputMismatchException occurs
+     * @param invalidMsg   the message to display if the input fails validation
+     * @return a validated input
+     * @throws InputMismatchException in batch mode, if the input is malformed or invalid
+     * @see #validatedTokenInput(String, Supplier, Predicate, String, String)
+     * @since 1.0
+     */
+    public static double validatedDoubleInput(String message, DoubleSupplier supplier, DoublePredicate validator, String errorMessage, String invalidMsg) {
+        while (true) {
+            prompt(message);
+            double input;
+            try {
+                input = supplier.getAsDouble();
+            } catch (InputMismatchException ex) {
+                reject(errorMessage);
+                continue;
+            } finally {
+                flushLine();
+            }
+            if (validator.test(input)) {
+                return input;
+            }
+            reject(invalidMsg);
         }
     }
 
     public static Supplier<String> nextLine() {
-        return SCANNER::nextLine;
+        return reader::nextLine;
     }
 
     public static Supplier<Integer> nextInt() {
-        return SCANNER::nextInt;
+        return reader::nextInt;
     }
 
     public static Supplier<Double> nextDouble() {
-        return SCANNER::nextDouble;
+        return reader::nextDouble;
     }
 
     public static Supplier<Long> nextLong() {
-        return SCANNER::nextLong;
+        return reader::nextLong;
+    }
+
+    /**
+     * Discards the rest of the current line, including any token that failed to parse.
+     */
+    private static void flushLine() {
+        reader.skipLine();
+    }
+
+    private static void prompt(String message) {
+        if (!batchMode) {
+            System.out.print(message);
+        }
+    }
+
+    /**
+     * Reports invalid input: prints the message, or in batch mode throws it with the
+     * position of the value.
+     */
+    private static void reject(String message) {
+        if (batchMode) {
+            FastReader current = reader;
+            throw new InputMismatchException(
+                    new InputError(current.getLineNumber(), current.getColumnNumber(), message).toString());
+        }
+        System.out.println(message);
     }
 }
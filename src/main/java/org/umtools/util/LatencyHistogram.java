@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-memory, log-bucketed histogram of latency values in nanoseconds.
+ * <p>
+ * Values below {@code 2^precisionBits} are counted exactly. Larger values fall into
+ * one of {@code 2^(precisionBits - 1)} sub-buckets per power of two, which bounds the
+ * relative error of any reported percentile by {@code 2^-(precisionBits - 1)}.
+ * All memory is allocated up front, so {@link #record(long)} never allocates.
+ * </p>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public class LatencyHistogram {
+
+    /**
+     * Default precision, giving a relative error below 1%.
+     */
+    public static final int DEFAULT_PRECISION_BITS = 8;
+
+    private final int precisionBits;
+    private final int subBucketCount;
+    private final int subBucketHalfCount;
+    private final long[] counts;
+
+    private long totalCount;
+    private long min = Long.MAX_VALUE;
+    private long max;
+    private double mean;
+    private double sumOfSquaredDeviations;
+
+    public LatencyHistogram() {
+        this(DEFAULT_PRECISION_BITS);
+    }
+
+    /**
+     * Creates a histogram with the given precision.
+     *
+     * @param precisionBits number of significant bits kept per value, between 2 and 16
+     */
+    public LatencyHistogram(int precisionBits) {
+        Asserts.between(precisionBits, 2, 16, IllegalArgumentException.class, "Precision bits must be between 2 and 16");
+        this.precisionBits = precisionBits;
+        this.subBucketCount = 1 << precisionBits;
+        this.subBucketHalfCount = subBucketCount >> 1;
+        this.counts = new long[(Long.SIZE + 1 - precisionBits) * subBucketHalfCount];
+    }
+
+    /**
+     * Records a single latency value. Negative values are recorded as zero.
+     *
+     * @param value the latency in ns
+     */
+    public void record(long value) {
+        long v = Math.max(value, 0);
+        counts[indexOf(v)]++;
+        totalCount++;
+        if (v < min) {
+            min = v;
+        }
+        if (v > max) {
+            max = v;
+        }
+        // Welford's online update keeps the variance numerically stable.
+        double delta = v - mean;
+        mean += delta / totalCount;
+        sumOfSquaredDeviations += delta * (v - mean);
+    }
+
+    /**
+     * Adds all values recorded in another histogram of the same precision to this one.
+     *
+     * @param other the histogram to merge
+     */
+    public void add(LatencyHistogram other) {
+        Asserts.equalInt(precisionBits, other.precisionBits, IllegalArgumentException.class, "Histograms must have the same precision");
+        if (other.totalCount == 0) {
+            return;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        long combinedCount = totalCount + other.totalCount;
+        double delta = other.mean - mean;
+        sumOfSquaredDeviations += other.sumOfSquaredDeviations
+                + delta * delta * ((double) totalCount * other.totalCount / combinedCount);
+        mean += delta * other.totalCount / combinedCount;
+        totalCount = combinedCount;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Clears all recorded values.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+        mean = 0;
+        sumOfSquaredDeviations = 0;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getMin() {
+        return totalCount == 0 ? 0 : min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public double getStdDev() {
+        return totalCount < 2 ? 0 : Math.sqrt(sumOfSquaredDeviations / (totalCount - 1));
+    }
+
+    /**
+     * Returns the value at the given percentile. The result is the highest value that
+     * shares a bucket with the percentile's rank, clamped to the recorded maximum.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the value at the percentile in ns, 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        Asserts.between(percentile, 0.0, 100.0, IllegalArgumentException.class, "Percentile must be between 0 and 100");
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.max(min, Math.min(max, highestValueAt(i)));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns a one-line summary of min, mean, standard deviation and common percentiles.
+     *
+     * @return the summary
+     */
+    public String summary() {
+        return String.format("n=%d, min=%d ns, mean=%.1f ns, stddev=%.1f ns, p50=%d ns, p90=%d ns, p99=%d ns, p99.9=%d ns, max=%d ns",
+                totalCount, getMin(), getMean(), getStdDev(),
+                getValueAtPercentile(50), getValueAtPercentile(90), getValueAtPercentile(99),
+                getValueAtPercentile(99.9), getMax());
+    }
+
+    @Override
+    public String toString() {
+        return summary();
+    }
+
+    private int indexOf(long value) {
+        if (value < subBucketCount) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - precisionBits;
+        return shift * subBucketHalfCount + (int) (value >>> shift);
+    }
+
+    private long highestValueAt(int index) {
+        if (index < subBucketCount) {
+            return index;
+        }
+        int shift = index / subBucketHalfCount - 1;
+        long top = index - (long) shift * subBucketHalfCount;
+        return ((top + 1) << shift) - 1;
+    }
+}
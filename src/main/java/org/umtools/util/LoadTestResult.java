@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+/**
+ * The outcome of firing a benchmark task at a fixed target rate. Latencies are
+ * measured from each call's intended start time, so queueing delay caused by the
+ * system falling behind the schedule is included rather than omitted.
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public class LoadTestResult {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final String name;
+    private final double targetRate;
+    private final long operations;
+    private final long elapsedNanos;
+    private final LatencyHistogram histogram;
+
+    public LoadTestResult(String name, double targetRate, long operations, long elapsedNanos, LatencyHistogram histogram) {
+        this.name = name;
+        this.targetRate = targetRate;
+        this.operations = operations;
+        this.elapsedNanos = elapsedNanos;
+        this.histogram = histogram;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the rate calls were scheduled at.
+     *
+     * @return operations per second
+     */
+    public double getTargetRate() {
+        return targetRate;
+    }
+
+    /**
+     * Returns the rate calls actually completed at, from the first scheduled start
+     * until the last call finished.
+     *
+     * @return operations per second
+     */
+    public double getAchievedRate() {
+        return operations * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    public long getOperations() {
+        return operations;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the latency distribution, measured from intended start times, in ns.
+     *
+     * @return the histogram
+     */
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s - Open loop at %.0f ops/s: achieved %.0f ops/s, %s",
+                name, targetRate, getAchievedRate(), histogram.summary());
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * A dense matrix of {@code double} values stored row-major in one contiguous array.
+ * <p>
+ * Unlike a jagged {@code double[][]}, every row is adjacent to the next, so the shape is
+ * checked once per operation rather than once per row, and element-wise operations run
+ * over a single array with the {@link ArrayMath} kernels. {@link #multiply(Matrix)} and
+ * {@link #transpose()} work on square tiles that stay in cache and are spread across the
+ * common fork-join pool once they involve at least {@value #PARALLEL_THRESHOLD} scalar
+ * operations. Use {@link #of(double[][])} and {@link #toArray()} to convert from and to
+ * jagged arrays.
+ * </p>
+ * <p>
+ * Operations return new matrices. Only {@link #set(int, int, double)} mutates, so
+ * instances are not thread-safe while being set.
+ * </p>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public final class Matrix {
+
+    /**
+     * Smallest amount of work, in multiply-adds or element moves, that runs in parallel.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 18;
+
+    /**
+     * Tile edge, chosen so three tiles of doubles fit in a typical 256 KiB L2 cache.
+     */
+    private static final int BLOCK_SIZE = 64;
+
+    private final int rows;
+    private final int columns;
+    private final double[] data;
+
+    /**
+     * Creates a matrix of zeros.
+     *
+     * @param rows    the number of rows
+     * @param columns the number of columns
+     */
+    public Matrix(int rows, int columns) {
+        this(rows, columns, new double[checkedSize(rows, columns)]);
+    }
+
+    private Matrix(int rows, int columns, double[] data) {
+        this.rows = rows;
+        this.columns = columns;
+        this.data = data;
+    }
+
+    /**
+     * Copies a rectangular jagged array into a matrix.
+     *
+     * @param array the rows, all of the same length
+     * @return the matrix
+     */
+    public static Matrix of(double[][] array) {
+        int columns = array.length == 0 ? 0 : array[0].length;
+        Matrix matrix = new Matrix(array.length, columns);
+        for (int i = 0; i < array.length; i++) {
+            Asserts.equalInt(array[i].length, columns, IllegalArgumentException.class,
+                    "Row %d has %d columns, expected %d", i, array[i].length, columns);
+            System.arraycopy(array[i], 0, matrix.data, i * columns, columns);
+        }
+        return matrix;
+    }
+
+    /**
+     * Copies a row-major array into a matrix.
+     *
+     * @param rows    the number of rows
+     * @param columns the number of columns
+     * @param data    the elements, row after row
+     * @return the matrix
+     */
+    public static Matrix ofRowMajor(int rows, int columns, double... data) {
+        Asserts.equalInt(data.length, checkedSize(rows, columns), IllegalArgumentException.class,
+                "Expected %d elements for a %dx%d matrix, got %d", rows * columns, rows, columns, data.length);
+        return new Matrix(rows, columns, data.clone());
+    }
+
+    /**
+     * Creates an identity matrix.
+     *
+     * @param size the number of rows and columns
+     * @return the matrix
+     */
+    public static Matrix identity(int size) {
+        Matrix matrix = new Matrix(size, size);
+        for (int i = 0; i < size; i++) {
+            matrix.data[i * size + i] = 1;
+        }
+        return matrix;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int columns() {
+        return columns;
+    }
+
+    public double get(int row, int column) {
+        return data[index(row, column)];
+    }
+
+    public void set(int row, int column, double value) {
+        data[index(row, column)] = value;
+    }
+
+    /**
+     * Computes {@code this * other}.
+     * <p>
+     * The loops are tiled over rows, the shared dimension and columns. Inside a tile the
+     * innermost loop runs along a row of both {@code other} and the result, so every
+     * access is sequential and the JIT compiler can vectorize it. Row tiles are
+     * independent and run in parallel above the threshold.
+     * </p>
+     *
+     * @param other a matrix with as many rows as this one has columns
+     * @return the product
+     */
+    public Matrix multiply(Matrix other) {
+        Asserts.equalInt(other.rows, columns, IllegalArgumentException.class,
+                "Cannot multiply %dx%d by %dx%d", rows, columns, other.rows, other.columns);
+        Matrix result = new Matrix(rows, other.columns);
+        IntStream tiles = IntStream.range(0, tileCount(rows));
+        if ((long) rows * columns * other.columns >= PARALLEL_THRESHOLD) {
+            tiles = tiles.parallel();
+        }
+        tiles.forEach(tile -> multiplyRows(other, result, tile * BLOCK_SIZE));
+        return result;
+    }
+
+    /**
+     * Computes the transpose, copying tile by tile so that both the rows read and the
+     * rows written stay in cache.
+     *
+     * @return the transpose
+     */
+    public Matrix transpose() {
+        Matrix result = new Matrix(columns, rows);
+        IntStream tiles = IntStream.range(0, tileCount(rows));
+        if ((long) rows * columns >= PARALLEL_THRESHOLD) {
+            tiles = tiles.parallel();
+        }
+        tiles.forEach(tile -> transposeRows(result, tile * BLOCK_SIZE));
+        return result;
+    }
+
+    /**
+     * Computes {@code this + other}.
+     *
+     * @param other a matrix of the same shape
+     * @return the sum
+     */
+    public Matrix add(Matrix other) {
+        checkSameShape(other);
+        double[] sum = new double[data.length];
+        ArrayMath.add(data, other.data, sum);
+        return new Matrix(rows, columns, sum);
+    }
+
+    /**
+     * Multiplies every element by a factor.
+     *
+     * @param factor the factor
+     * @return the scaled matrix
+     */
+    public Matrix scale(double factor) {
+        double[] scaled = new double[data.length];
+        ArrayMath.scaledCopy(data, factor, scaled);
+        return new Matrix(rows, columns, scaled);
+    }
+
+    /**
+     * Copies the matrix into a new jagged array.
+     *
+     * @return the rows
+     */
+    public double[][] toArray() {
+        double[][] array = new double[rows][];
+        for (int i = 0; i < rows; i++) {
+            array[i] = Arrays.copyOfRange(data, i * columns, (i + 1) * columns);
+        }
+        return array;
+    }
+
+    /**
+     * Copies the elements, row after row.
+     *
+     * @return the row-major elements
+     */
+    public double[] toRowMajorArray() {
+        return data.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Matrix other)) {
+            return false;
+        }
+        return rows == other.rows && columns == other.columns && Arrays.equals(data, other.data);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * rows + columns) + Arrays.hashCode(data);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            builder.append(Arrays.toString(Arrays.copyOfRange(data, i * columns, (i + 1) * columns)))
+                    .append(System.lineSeparator());
+        }
+        return builder.toString();
+    }
+
+    private void multiplyRows(Matrix other, Matrix result, int rowStart) {
+        int rowEnd = Math.min(rowStart + BLOCK_SIZE, rows);
+        int width = other.columns;
+        double[] a = data;
+        double[] b = other.data;
+        double[] c = result.data;
+        for (int kk = 0; kk < columns; kk += BLOCK_SIZE) {
+            int kEnd = Math.min(kk + BLOCK_SIZE, columns);
+            for (int jj = 0; jj < width; jj += BLOCK_SIZE) {
+                int jEnd = Math.min(jj + BLOCK_SIZE, width);
+                for (int i = rowStart; i < rowEnd; i++) {
+                    int cRow = i * width;
+                    for (int k = kk; k < kEnd; k++) {
+                        double aik = a[i * columns + k];
+                        int bRow = k * width;
+                        for (int j = jj; j < jEnd; j++) {
+                            c[cRow + j] += aik * b[bRow + j];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void transposeRows(Matrix result, int rowStart) {
+        int rowEnd = Math.min(rowStart + BLOCK_SIZE, rows);
+        for (int jj = 0; jj < columns; jj += BLOCK_SIZE) {
+            int jEnd = Math.min(jj + BLOCK_SIZE, columns);
+            for (int i = rowStart; i < rowEnd; i++) {
+                for (int j = jj; j < jEnd; j++) {
+                    result.data[j * rows + i] = data[i * columns + j];
+                }
+            }
+        }
+    }
+
+    private int index(int row, int column) {
+        return Objects.checkIndex(row, rows) * columns + Objects.checkIndex(column, columns);
+    }
+
+    private void checkSameShape(Matrix other) {
+        Asserts.isTrue(rows == other.rows && columns == other.columns, IllegalArgumentException.class,
+                "Shapes differ: %dx%d and %dx%d", rows, columns, other.rows, other.columns);
+    }
+
+    private static int tileCount(int length) {
+        return (length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    }
+
+    private static int checkedSize(int rows, int columns) {
+        Asserts.isTrue(rows >= 0 && columns >= 0, IllegalArgumentException.class, "Dimensions cannot be negative");
+        long size = (long) rows * columns;
+        Asserts.isTrue(size <= Integer.MAX_VALUE - 8, IllegalArgumentException.class,
+                "A %dx%d matrix is too large", rows, columns);
+        return (int) size;
+    }
+}
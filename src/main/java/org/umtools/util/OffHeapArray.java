@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A fixed-length primitive array stored outside the Java heap, indexed by {@code long}.
+ * <p>
+ * Elements live in direct or file-mapped byte buffers of up to 1 GiB each, so the
+ * array may hold more than 2<sup>31</sup> elements and its contents are never scanned
+ * or copied by the garbage collector. A file-mapped array persists its contents in the
+ * file, in little-endian order, and can be mapped again later without deserialization.
+ * </p>
+ * <p>
+ * The {@link ArrayUtils} selection, partitioning, top-k and sorting operations are
+ * available by {@code long} index. They partition large ranges in place and stage ranges
+ * of at most {@link #STAGING_SIZE} elements onto the heap to finish them, so they never
+ * copy the whole array to the heap. They run sequentially.
+ * </p>
+ * <p>
+ * Direct memory counts against {@code -XX:MaxDirectMemorySize} and is returned when the
+ * buffers are garbage collected; {@link #close()} drops them and makes every further
+ * access fail. Instances are not thread-safe for concurrent writes.
+ * </p>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public abstract class OffHeapArray implements AutoCloseable {
+
+    /**
+     * Number of elements heap-side bulk operations move at a time.
+     */
+    static final int STAGING_SIZE = 8192;
+
+    private static final int CHUNK_BYTES_SHIFT = 30;
+    private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    final int chunkShift;
+    final long chunkMask;
+    long length;
+    private ByteBuffer[] chunks;
+    private final boolean mapped;
+
+    OffHeapArray(long length, int elementShift, ByteBuffer[] chunks, boolean mapped) {
+        this.chunkShift = CHUNK_BYTES_SHIFT - elementShift;
+        this.chunkMask = (1L << chunkShift) - 1;
+        this.length = length;
+        this.chunks = chunks;
+        this.mapped = mapped;
+    }
+
+    /**
+     * Allocates zeroed direct buffers for the given number of elements.
+     */
+    static ByteBuffer[] allocateChunks(long length, int elementShift) {
+        Asserts.isTrue(length >= 0, IllegalArgumentException.class, "Length cannot be negative");
+        ByteBuffer[] chunks = new ByteBuffer[chunkCount(length, elementShift)];
+        long remaining = length << elementShift;
+        for (int i = 0; i < chunks.length; i++) {
+            int size = (int) Math.min(remaining, 1L << CHUNK_BYTES_SHIFT);
+            chunks[i] = ByteBuffer.allocateDirect(size).order(ORDER);
+            remaining -= size;
+        }
+        return chunks;
+    }
+
+    /**
+     * Maps the first {@code length} elements of a file, creating or growing the file as needed.
+     */
+    static ByteBuffer[] mapChunks(Path file, long length, int elementShift) throws IOException {
+        Asserts.isTrue(length >= 0, IllegalArgumentException.class, "Length cannot be negative");
+        ByteBuffer[] chunks = new ByteBuffer[chunkCount(length, elementShift)];
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long position = 0;
+            long end = length << elementShift;
+            for (int i = 0; i < chunks.length; i++) {
+                long size = Math.min(end - position, 1L << CHUNK_BYTES_SHIFT);
+                chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, position, size).order(ORDER);
+                position += size;
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * Returns the number of whole elements stored in an existing file.
+     */
+    static long fileLength(Path file, int elementShift) throws IOException {
+        long size = Files.size(file);
+        Asserts.isTrue((size & ((1L << elementShift) - 1)) == 0, IllegalArgumentException.class,
+                "File size %d is not a multiple of %d bytes", size, 1L << elementShift);
+        return size >> elementShift;
+    }
+
+    private static int chunkCount(long length, int elementShift) {
+        long elementsPerChunk = 1L << (CHUNK_BYTES_SHIFT - elementShift);
+        long count = (length + elementsPerChunk - 1) / elementsPerChunk;
+        Asserts.isTrue(count <= Integer.MAX_VALUE, IllegalArgumentException.class, "Length %d is too large", length);
+        return (int) count;
+    }
+
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Returns whether the array is backed by a file.
+     *
+     * @return true if the array was mapped from a file
+     */
+    public boolean isMapped() {
+        return mapped;
+    }
+
+    /**
+     * Writes changes of a file-mapped array to the storage device. Does nothing for
+     * arrays in direct memory.
+     */
+    public void force() {
+        for (ByteBuffer chunk : chunks) {
+            if (chunk instanceof MappedByteBuffer mappedChunk) {
+                mappedChunk.force();
+            }
+        }
+    }
+
+    /**
+     * Forces a file-mapped array to storage and releases the buffers. Afterward the
+     * array has length 0, so every access throws {@link IndexOutOfBoundsException}.
+     */
+    @Override
+    public void close() {
+        force();
+        length = 0;
+        chunks = new ByteBuffer[0];
+        releaseViews();
+    }
+
+    /**
+     * Drops the typed views over the chunks, so closed memory cannot be reached.
+     */
+    abstract void releaseViews();
+
+    /**
+     * Visits the chunk-local pieces of the element range {@code [index, index + count)}.
+     */
+    void forEachSegment(long index, long count, SegmentAction action) {
+        long position = index;
+        long done = 0;
+        while (done < count) {
+            int chunk = (int) (position >>> chunkShift);
+            int offset = (int) (position & chunkMask);
+            int size = (int) Math.min(count - done, chunkMask + 1 - offset);
+            action.apply(chunk, offset, done, size);
+            position += size;
+            done += size;
+        }
+    }
+
+    void checkSelection(long from, long to, long k) {
+        checkRange(from, to - from);
+        if (k < from || k >= to) {
+            throw new IndexOutOfBoundsException(String.format("Index %d out of range [%d, %d)", k, from, to));
+        }
+    }
+
+    void checkTopK(int k) {
+        if (k < 0 || k > length) {
+            throw new IllegalArgumentException(String.format("k must be between 0 and %d", length));
+        }
+    }
+
+    /**
+     * Bounds the number of partitioning rounds at twice the depth a balanced split
+     * would need, as {@link ArrayUtils} does.
+     */
+    static int maxPartitionRounds(long length) {
+        return 2 * (Long.SIZE - Long.numberOfLeadingZeros(Math.max(1, length)));
+    }
+
+    /**
+     * Checks an element range on every access, formatting the message only on failure.
+     */
+    void checkRange(long index, long count) {
+        if (index < 0 || count < 0 || index > length - count) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Range [%d, %d) out of bounds for length %d", index, index + count, length));
+        }
+    }
+
+    /**
+     * One chunk-local piece of a bulk operation.
+     */
+    @FunctionalInterface
+    interface SegmentAction {
+
+        /**
+         * @param chunk  the chunk index
+         * @param offset the first element within the chunk
+         * @param done   how many elements of the range came before this piece
+         * @param size   the number of elements in this piece
+         */
+        void apply(int chunk, int offset, long done, int size);
+    }
+}
@@ -0,0 +1,420 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A {@code double} array stored outside the Java heap. See {@link OffHeapArray}.
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public final class OffHeapDoubleArray extends OffHeapArray {
+
+    private static final int ELEMENT_SHIFT = 3;
+
+    private DoubleBuffer[] views;
+
+    private OffHeapDoubleArray(long length, ByteBuffer[] chunks, boolean mapped) {
+        super(length, ELEMENT_SHIFT, chunks, mapped);
+        this.views = new DoubleBuffer[chunks.length];
+        for (int i = 0; i < chunks.length; i++) {
+            views[i] = chunks[i].asDoubleBuffer();
+        }
+    }
+
+    /**
+     * Allocates a zeroed array in direct memory.
+     *
+     * @param length the number of elements
+     * @return the array
+     */
+    public static OffHeapDoubleArray allocate(long length) {
+        return new OffHeapDoubleArray(length, allocateChunks(length, ELEMENT_SHIFT), false);
+    }
+
+    /**
+     * Maps an array onto a file, creating the file or growing it with zeros as needed.
+     * Writes reach the file by {@link #force()} or {@link #close()} at the latest.
+     *
+     * @param file   the file
+     * @param length the number of elements
+     * @return the array
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public static OffHeapDoubleArray map(Path file, long length) throws IOException {
+        return new OffHeapDoubleArray(length, mapChunks(file, length, ELEMENT_SHIFT), true);
+    }
+
+    /**
+     * Maps an array onto an existing file, with one element per 8 bytes of the file.
+     *
+     * @param file the file
+     * @return the array
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public static OffHeapDoubleArray map(Path file) throws IOException {
+        return map(file, fileLength(file, ELEMENT_SHIFT));
+    }
+
+    public double get(long index) {
+        Objects.checkIndex(index, length);
+        return views[(int) (index >>> chunkShift)].get((int) (index & chunkMask));
+    }
+
+    public void set(long index, double value) {
+        Objects.checkIndex(index, length);
+        views[(int) (index >>> chunkShift)].put((int) (index & chunkMask), value);
+    }
+
+    /**
+     * Swap two elements in the array
+     *
+     * @param i index of the first element
+     * @param j index of the second element
+     */
+    public void swap(long i, long j) {
+        double temp = get(i);
+        set(i, get(j));
+        set(j, temp);
+    }
+
+    /**
+     * Copies elements from a heap array into this array.
+     *
+     * @param index        the first element to write in this array
+     * @param source       the heap array
+     * @param sourceOffset the first element to read from {@code source}
+     * @param count        the number of elements
+     */
+    public void copyFrom(long index, double[] source, int sourceOffset, int count) {
+        checkRange(index, count);
+        Objects.checkFromIndexSize(sourceOffset, count, source.length);
+        forEachSegment(index, count, (chunk, offset, done, size) ->
+                views[chunk].put(offset, source, sourceOffset + (int) done, size));
+    }
+
+    /**
+     * Copies elements from this array into a heap array.
+     *
+     * @param index      the first element to read in this array
+     * @param dest       the heap array
+     * @param destOffset the first element to write in {@code dest}
+     * @param count      the number of elements
+     */
+    public void copyTo(long index, double[] dest, int destOffset, int count) {
+        checkRange(index, count);
+        Objects.checkFromIndexSize(destOffset, count, dest.length);
+        forEachSegment(index, count, (chunk, offset, done, size) ->
+                views[chunk].get(offset, dest, destOffset + (int) done, size));
+    }
+
+    /**
+     * Copies the whole array to a new heap array.
+     *
+     * @return the heap array
+     */
+    public double[] toArray() {
+        Asserts.isTrue(length <= Integer.MAX_VALUE - 8, IllegalStateException.class,
+                "Length %d does not fit in a heap array", length);
+        double[] array = new double[(int) length];
+        copyTo(0, array, 0, array.length);
+        return array;
+    }
+
+    /**
+     * Sets every element to a value.
+     *
+     * @param value the value
+     */
+    public void fill(double value) {
+        fill(0, length, value);
+    }
+
+    /**
+     * Sets every element in {@code [from, to)} to a value.
+     *
+     * @param from  the first element, inclusive
+     * @param to    the last element, exclusive
+     * @param value the value
+     */
+    public void fill(long from, long to, double value) {
+        checkRange(from, to - from);
+        double[] block = new double[(int) Math.min(STAGING_SIZE, to - from)];
+        ArrayMath.fill(block, value);
+        for (long i = from; i < to; i += block.length) {
+            copyFrom(i, block, 0, (int) Math.min(block.length, to - i));
+        }
+    }
+
+    /**
+     * Sums the elements. Blocks of elements are staged on the heap and summed with
+     * {@link ArrayMath#sum(double[])}, so the vectorized kernels apply.
+     *
+     * @return the sum, 0 for an empty array
+     */
+    public double sum() {
+        double sum = 0;
+        double[] scratch = new double[STAGING_SIZE];
+        for (long i = 0; i < length; i += STAGING_SIZE) {
+            sum += ArrayMath.sum(stage(i, scratch));
+        }
+        return sum;
+    }
+
+    /**
+     * Finds the smallest element, as by {@link ArrayMath#min(double[])}.
+     *
+     * @return the minimum
+     */
+    public double min() {
+        Asserts.isTrue(length > 0, IllegalStateException.class, "Array is empty");
+        double min = Double.POSITIVE_INFINITY;
+        double[] scratch = new double[STAGING_SIZE];
+        for (long i = 0; i < length; i += STAGING_SIZE) {
+            min = Math.min(min, ArrayMath.min(stage(i, scratch)));
+        }
+        return min;
+    }
+
+    /**
+     * Finds the largest element, as by {@link ArrayMath#max(double[])}.
+     *
+     * @return the maximum
+     */
+    public double max() {
+        Asserts.isTrue(length > 0, IllegalStateException.class, "Array is empty");
+        double max = Double.NEGATIVE_INFINITY;
+        double[] scratch = new double[STAGING_SIZE];
+        for (long i = 0; i < length; i += STAGING_SIZE) {
+            max = Math.max(max, ArrayMath.max(stage(i, scratch)));
+        }
+        return max;
+    }
+
+    // ========================= ArrayUtils operations =========================
+
+    /**
+     * Rearranges {@code [from, to)} so that element {@code k} holds the element that would
+     * be there if the range were sorted, as {@link ArrayUtils#select(double[], int, int, int)}
+     * does.
+     *
+     * @param from index of the first element, inclusive
+     * @param to   index of the last element, exclusive
+     * @param k    index of the element to select, within the range
+     * @return the selected element
+     */
+    public double select(long from, long to, long k) {
+        checkSelection(from, to, k);
+        long lo = from;
+        long hi = to - 1;
+        int rounds = maxPartitionRounds(to - from);
+        while (hi - lo >= STAGING_SIZE) {
+            if (rounds-- == 0) {
+                sortRange(lo, hi + 1, 0, new double[STAGING_SIZE]);
+                return get(k);
+            }
+            long[] bounds = partition3(lo, hi + 1, medianOfThree(lo, hi));
+            if (k < bounds[0]) {
+                hi = bounds[0] - 1;
+            } else if (k >= bounds[1]) {
+                lo = bounds[1];
+            } else {
+                return get(k);
+            }
+        }
+        double[] block = new double[(int) (hi - lo + 1)];
+        copyTo(lo, block, 0, block.length);
+        double selected = ArrayUtils.select(block, (int) (k - lo));
+        copyFrom(lo, block, 0, block.length);
+        return selected;
+    }
+
+    /**
+     * Selects the {@code k}-th smallest element of the whole array, e.g. the median at
+     * {@code k = length() / 2}.
+     *
+     * @param k index of the element to select
+     * @return the selected element
+     * @see #select(long, long, long)
+     */
+    public double select(long k) {
+        return select(0, length, k);
+    }
+
+    /**
+     * Three-way partitions {@code [from, to)} around the pivot in place, as
+     * {@link ArrayUtils#partition3(double[], int, int, double)} does.
+     *
+     * @param from  index of the first element, inclusive
+     * @param to    index of the last element, exclusive
+     * @param pivot the pivot value
+     * @return {@code {lessEnd, greaterStart}}, the bounds of the elements equal to the pivot
+     */
+    public long[] partition3(long from, long to, double pivot) {
+        checkRange(from, to - from);
+        long lt = from;
+        long i = from;
+        long gt = to - 1;
+        while (i <= gt) {
+            double value = get(i);
+            if (less(value, pivot)) {
+                swap(lt++, i++);
+            } else if (less(pivot, value)) {
+                swap(i, gt--);
+            } else {
+                i++;
+            }
+        }
+        return new long[]{lt, gt + 1};
+    }
+
+    /**
+     * Returns the {@code k} largest elements in descending order, as
+     * {@link ArrayUtils#topK(double[], int)} does. The array is scanned once and not modified.
+     *
+     * @param k number of elements, at most the array length
+     * @return the {@code k} largest elements, largest first
+     */
+    public double[] topK(int k) {
+        checkTopK(k);
+        double[] heap = new double[k];
+        int size = 0;
+        double[] scratch = new double[STAGING_SIZE];
+        for (long i = 0; i < length && k > 0; i += STAGING_SIZE) {
+            double[] block = stage(i, scratch);
+            for (double value : block) {
+                if (size < k) {
+                    heap[size] = value;
+                    ArrayUtils.siftUp(heap, size++);
+                } else if (less(heap[0], value)) {
+                    heap[0] = value;
+                    ArrayUtils.siftDown(heap, 0, k);
+                }
+            }
+        }
+        Arrays.sort(heap);
+        for (int i = 0, j = k - 1; i < j; i++, j--) {
+            ArrayUtils.swap(heap, i, j);
+        }
+        return heap;
+    }
+
+    /**
+     * Sorts the whole array in ascending order.
+     *
+     * @see #sort(long, long)
+     */
+    public void sort() {
+        sort(0, length);
+    }
+
+    /**
+     * Sorts {@code [from, to)} in ascending order, ordered as by {@link Double#compare(double, double)}. Ranges are quicksorted in place
+     * until they fit a staging block, which is sorted on the heap; if partitioning
+     * degrades, the range is heapsorted in place instead.
+     *
+     * @param from index of the first element, inclusive
+     * @param to   index of the last element, exclusive
+     */
+    public void sort(long from, long to) {
+        checkRange(from, to - from);
+        sortRange(from, to, maxPartitionRounds(to - from), new double[(int) Math.min(STAGING_SIZE, to - from)]);
+    }
+
+    /**
+     * Partitions the larger side iteratively and recurses into the smaller one, so
+     * the stack depth stays logarithmic.
+     */
+    private void sortRange(long from, long to, int rounds, double[] scratch) {
+        long lo = from;
+        long hi = to;
+        while (hi - lo > scratch.length) {
+            if (rounds-- <= 0) {
+                heapSort(lo, hi);
+                return;
+            }
+            long[] bounds = partition3(lo, hi, medianOfThree(lo, hi - 1));
+            if (bounds[0] - lo < hi - bounds[1]) {
+                sortRange(lo, bounds[0], rounds, scratch);
+                lo = bounds[1];
+            } else {
+                sortRange(bounds[1], hi, rounds, scratch);
+                hi = bounds[0];
+            }
+        }
+        int count = (int) (hi - lo);
+        copyTo(lo, scratch, 0, count);
+        Arrays.sort(scratch, 0, count);
+        copyFrom(lo, scratch, 0, count);
+    }
+
+    private void heapSort(long from, long to) {
+        long size = to - from;
+        for (long i = size / 2 - 1; i >= 0; i--) {
+            siftDownMax(from, i, size);
+        }
+        for (long end = size - 1; end > 0; end--) {
+            swap(from, from + end);
+            siftDownMax(from, 0, end);
+        }
+    }
+
+    private void siftDownMax(long base, long index, long size) {
+        long parent = index;
+        while (true) {
+            long largest = parent;
+            long left = 2 * parent + 1;
+            long right = left + 1;
+            if (left < size && less(get(base + largest), get(base + left))) {
+                largest = left;
+            }
+            if (right < size && less(get(base + largest), get(base + right))) {
+                largest = right;
+            }
+            if (largest == parent) {
+                return;
+            }
+            swap(base + parent, base + largest);
+            parent = largest;
+        }
+    }
+
+    private double medianOfThree(long lo, long hi) {
+        double a = get(lo);
+        double b = get(lo + (hi - lo) / 2);
+        double c = get(hi);
+        if (less(a, b)) {
+            return less(b, c) ? b : less(a, c) ? c : a;
+        }
+        return less(a, c) ? a : less(b, c) ? c : b;
+    }
+
+    private static boolean less(double a, double b) {
+        return Double.compare(a, b) < 0;
+    }
+
+    @Override
+    void releaseViews() {
+        views = new DoubleBuffer[0];
+    }
+
+    /**
+     * Copies the block starting at {@code index} into the scratch array, or into an
+     * exactly sized array for the final, shorter block.
+     */
+    private double[] stage(long index, double[] scratch) {
+        int count = (int) Math.min(scratch.length, length - index);
+        double[] block = count == scratch.length ? scratch : new double[count];
+        copyTo(index, block, 0, count);
+        return block;
+    }
+}
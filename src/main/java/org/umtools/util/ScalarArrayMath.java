@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+/**
+ * Scalar implementations of {@link ArrayMath}, used for short arrays and whenever
+ * {@link VectorSupport#ENABLED} is false. Arguments are checked by the caller.
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+final class ScalarArrayMath {
+
+    private ScalarArrayMath() {
+    }
+
+    static long sum(int[] array) {
+        long sum = 0;
+        for (int value : array) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    static double sum(double[] array) {
+        double sum = 0;
+        for (double value : array) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    static int min(int[] array) {
+        int min = array[0];
+        for (int value : array) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+
+    static double min(double[] array) {
+        double min = array[0];
+        for (double value : array) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+
+    static int max(int[] array) {
+        int max = array[0];
+        for (int value : array) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    static double max(double[] array) {
+        double max = array[0];
+        for (double value : array) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    static int argmax(int[] array) {
+        int index = 0;
+        for (int i = 1; i < array.length; i++) {
+            if (array[i] > array[index]) {
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    static int argmax(double[] array) {
+        int index = 0;
+        for (int i = 0; i < array.length; i++) {
+            if (Double.isNaN(array[i])) {
+                return i;
+            }
+            if (array[i] > array[index]) {
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    static long dot(int[] x, int[] y) {
+        long sum = 0;
+        for (int i = 0; i < x.length; i++) {
+            sum += (long) x[i] * y[i];
+        }
+        return sum;
+    }
+
+    static double dot(double[] x, double[] y) {
+        double sum = 0;
+        for (int i = 0; i < x.length; i++) {
+            sum += x[i] * y[i];
+        }
+        return sum;
+    }
+
+    static void axpy(int a, int[] x, int[] y) {
+        for (int i = 0; i < x.length; i++) {
+            y[i] += a * x[i];
+        }
+    }
+
+    static void axpy(double a, double[] x, double[] y) {
+        for (int i = 0; i < x.length; i++) {
+            y[i] += a * x[i];
+        }
+    }
+
+    static void add(int[] x, int[] y, int[] dest) {
+        for (int i = 0; i < x.length; i++) {
+            dest[i] = x[i] + y[i];
+        }
+    }
+
+    static void add(double[] x, double[] y, double[] dest) {
+        for (int i = 0; i < x.length; i++) {
+            dest[i] = x[i] + y[i];
+        }
+    }
+
+    static void multiply(int[] x, int[] y, int[] dest) {
+        for (int i = 0; i < x.length; i++) {
+            dest[i] = x[i] * y[i];
+        }
+    }
+
+    static void multiply(double[] x, double[] y, double[] dest) {
+        for (int i = 0; i < x.length; i++) {
+            dest[i] = x[i] * y[i];
+        }
+    }
+
+    static void fill(int[] array, int value) {
+        for (int i = 0; i < array.length; i++) {
+            array[i] = value;
+        }
+    }
+
+    static void fill(double[] array, double value) {
+        for (int i = 0; i < array.length; i++) {
+            array[i] = value;
+        }
+    }
+
+    static void scaledCopy(int[] source, int factor, int[] dest) {
+        for (int i = 0; i < source.length; i++) {
+            dest[i] = factor * source[i];
+        }
+    }
+
+    static void scaledCopy(double[] source, double factor, double[] dest) {
+        for (int i = 0; i < source.length; i++) {
+            dest[i] = factor * source[i];
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * A benchmark declared over a range of input sizes.
+ * <p>
+ * For every size {@code n}, the generator builds an input of that size outside the
+ * timed region and the function is timed on it. By default a fresh input is generated
+ * for every invocation, so functions that mutate their input, such as in-place sorts,
+ * are measured correctly. Run it with {@link BenchmarkRunner#runComplexity} to fit the
+ * timings against common complexity classes.
+ * </p>
+ *
+ * @param <S> the type of the generated input
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public class ScalingBenchmark<S> {
+
+    private final String name;
+    private final long[] sizes;
+    private final LongFunction<? extends S> generator;
+    private final Function<? super S, ?> function;
+    private final StatefulBenchmark.Level inputLevel;
+
+    public ScalingBenchmark(String name, long[] sizes, LongFunction<? extends S> generator, Function<? super S, ?> function) {
+        this(name, sizes, generator, function, StatefulBenchmark.Level.INVOCATION);
+    }
+
+    /**
+     * Creates a scaling benchmark that regenerates its input at the given level. Reusing
+     * one input per trial is only correct for functions that do not modify it.
+     *
+     * @param name       the name of the benchmark
+     * @param sizes      the input sizes, at least two distinct positive values
+     * @param generator  builds an input of the given size
+     * @param function   the function under measurement
+     * @param inputLevel how often a new input is generated
+     */
+    public ScalingBenchmark(String name, long[] sizes, LongFunction<? extends S> generator, Function<? super S, ?> function,
+                            StatefulBenchmark.Level inputLevel) {
+        Asserts.isTrue(sizes != null && sizes.length >= 2, IllegalArgumentException.class, "At least two sizes are required");
+        for (long size : sizes) {
+            Asserts.isTrue(size > 0, IllegalArgumentException.class, "Sizes must be positive");
+        }
+        this.name = name;
+        this.sizes = sizes.clone();
+        this.generator = generator;
+        this.function = function;
+        this.inputLevel = inputLevel;
+    }
+
+    /**
+     * Returns sizes from {@code from} to {@code to} inclusive, multiplied by {@code factor}
+     * at each step, e.g. {@code geometricSizes(1_000, 10_000_000, 10)}.
+     *
+     * @param from   the smallest size
+     * @param to     the largest size
+     * @param factor the ratio between consecutive sizes, at least 2
+     * @return the sizes
+     */
+    public static long[] geometricSizes(long from, long to, long factor) {
+        Asserts.isTrue(from > 0 && to >= from, IllegalArgumentException.class, "Size range must be positive and non-empty");
+        Asserts.isTrue(factor >= 2, IllegalArgumentException.class, "Factor must be at least 2");
+        long[] sizes = new long[Long.SIZE];
+        int count = 0;
+        long size = from;
+        while (true) {
+            sizes[count++] = size;
+            if (size > to / factor) {
+                return Arrays.copyOf(sizes, count);
+            }
+            size *= factor;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long[] getSizes() {
+        return sizes.clone();
+    }
+
+    /**
+     * Creates the benchmark that measures the function at one input size.
+     *
+     * @param size the input size
+     * @return the benchmark
+     */
+    public Benchmark atSize(long size) {
+        return new StatefulBenchmark<S, Object>(name + " [n=" + size + "]", inputLevel, () -> generator.apply(size), function);
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A benchmark over a function of some prepared state.
+ * <p>
+ * Only the call to the function is timed. Its return value goes into a {@link Blackhole},
+ * so the JIT compiler cannot remove the computation as dead code. State is created by a
+ * supplier once per trial, per iteration or per invocation, and setup and teardown hooks
+ * can run at each of those levels without being timed.
+ * </p>
+ * <p>
+ * A trial is one {@code measure} call. It is divided into iterations of
+ * {@link #invocationsPerIteration(long)} invocations each, one invocation per timed call.
+ * Throughput and open-loop runs, which call the function from many threads without
+ * timing single calls, count as a trial of one iteration: iteration-level state is
+ * created and its hooks run once, and that state is shared by all threads.
+ * </p>
+ *
+ * @param <S> the type of the state
+ * @param <R> the type of the function's result
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public class StatefulBenchmark<S, R> extends Benchmark {
+
+    private final Level stateLevel;
+    private final Supplier<? extends S> stateSupplier;
+    private final Function<? super S, ? extends R> function;
+    private final Map<Level, Consumer<? super S>> setups = new EnumMap<>(Level.class);
+    private final Map<Level, Consumer<? super S>> teardowns = new EnumMap<>(Level.class);
+    private final Blackhole blackhole = new Blackhole();
+
+    private long invocationsPerIteration = 1;
+    private long invocationCount;
+    private S state;
+
+    /**
+     * Creates a benchmark whose state is created once per trial.
+     *
+     * @param name          the name of the benchmark
+     * @param stateSupplier creates the state passed to the function
+     * @param function      the function under measurement
+     */
+    public StatefulBenchmark(String name, Supplier<? extends S> stateSupplier, Function<? super S, ? extends R> function) {
+        this(name, Level.TRIAL, stateSupplier, function);
+    }
+
+    /**
+     * Creates a benchmark whose state is created at the given level, so that for example
+     * {@link Level#INVOCATION} hands every timed call a fresh, untimed input.
+     *
+     * @param name          the name of the benchmark
+     * @param stateLevel    how often a new state is created
+     * @param stateSupplier creates the state passed to the function
+     * @param function      the function under measurement
+     */
+    public StatefulBenchmark(String name, Level stateLevel, Supplier<? extends S> stateSupplier,
+                             Function<? super S, ? extends R> function) {
+        super(name, null);
+        Asserts.isNotNull(stateLevel, IllegalArgumentException.class, "State level cannot be null");
+        Asserts.isNotNull(stateSupplier, IllegalArgumentException.class, "State supplier cannot be null");
+        Asserts.isNotNull(function, IllegalArgumentException.class, "Function cannot be null");
+        this.stateLevel = stateLevel;
+        this.stateSupplier = stateSupplier;
+        this.function = function;
+    }
+
+    /**
+     * Registers an untimed hook that runs on the state at the start of every trial,
+     * iteration or invocation. A later hook for the same level replaces the earlier one.
+     *
+     * @param level when the hook runs
+     * @param hook  the hook
+     * @return this benchmark
+     */
+    public StatefulBenchmark<S, R> setup(Level level, Consumer<? super S> hook) {
+        setups.put(level, hook);
+        return this;
+    }
+
+    /**
+     * Registers an untimed hook that runs on the state at the end of every trial,
+     * iteration or invocation. A later hook for the same level replaces the earlier one.
+     *
+     * @param level when the hook runs
+     * @param hook  the hook
+     * @return this benchmark
+     */
+    public StatefulBenchmark<S, R> teardown(Level level, Consumer<? super S> hook) {
+        teardowns.put(level, hook);
+        return this;
+    }
+
+    /**
+     * Sets how many invocations make up one iteration.
+     *
+     * @param invocations number of invocations, at least 1
+     * @return this benchmark
+     */
+    public StatefulBenchmark<S, R> invocationsPerIteration(long invocations) {
+        Asserts.isTrue(invocations > 0, IllegalArgumentException.class, "Invocations per iteration must be positive");
+        this.invocationsPerIteration = invocations;
+        return this;
+    }
+
+    @Override
+    void beforeTrial() {
+        invocationCount = 0;
+        if (stateLevel == Level.TRIAL) {
+            state = stateSupplier.get();
+        }
+        runHook(setups, Level.TRIAL, state);
+    }
+
+    @Override
+    void afterTrial() {
+        if (invocationCount % invocationsPerIteration != 0) {
+            endIteration();
+        }
+        runHook(teardowns, Level.TRIAL, state);
+        state = null;
+    }
+
+    @Override
+    void beforeConcurrentTrial() {
+        beforeTrial();
+        beginIteration();
+    }
+
+    @Override
+    void afterConcurrentTrial() {
+        endIteration();
+        afterTrial();
+    }
+
+    @Override
+    long timeInvocation() {
+        if (invocationCount % invocationsPerIteration == 0) {
+            beginIteration();
+        }
+        if (stateLevel == Level.INVOCATION) {
+            state = stateSupplier.get();
+        }
+        runHook(setups, Level.INVOCATION, state);
+
+        long startTime = System.nanoTime();
+        R result = function.apply(state);
+        long execTime = System.nanoTime() - startTime;
+
+        blackhole.consume(result);
+        runHook(teardowns, Level.INVOCATION, state);
+        if (++invocationCount % invocationsPerIteration == 0) {
+            endIteration();
+        }
+        return execTime;
+    }
+
+    /**
+     * Times a batch of invocations, keeping iterations of
+     * {@link #invocationsPerIteration(long)} invocations each: a batch that crosses an
+     * iteration boundary is timed in parts, with the iteration hooks and state creation
+     * run untimed between them and the timer overhead of the extra parts subtracted.
+     * Only used when no invocation-level work is configured.
+     */
+    @Override
+    long timeBatch(long invocations) {
+        long execTime = 0;
+        long parts = 0;
+        long remaining = invocations;
+        while (remaining > 0) {
+            if (invocationCount % invocationsPerIteration == 0) {
+                beginIteration();
+            }
+            long count = Math.min(remaining, invocationsPerIteration - invocationCount % invocationsPerIteration);
+            S current = state;
+            long startTime = System.nanoTime();
+            for (long i = 0; i < count; i++) {
+                blackhole.consume(function.apply(current));
+            }
+            execTime += System.nanoTime() - startTime;
+            parts++;
+            remaining -= count;
+            invocationCount += count;
+            if (invocationCount % invocationsPerIteration == 0) {
+                endIteration();
+            }
+        }
+        return parts == 1 ? execTime : Math.max(0, execTime - Math.round((parts - 1) * TimerCalibration.get().getOverheadNanos()));
+    }
+
+    /**
+     * Batches cannot exclude per-invocation state creation or hooks from the timed
+     * region, so such benchmarks are timed one invocation at a time, as are benchmarks
+     * with iteration-level work and a single invocation per iteration, whose batches
+     * would be timed one invocation at a time anyway.
+     */
+    @Override
+    boolean supportsBatching() {
+        boolean invocationWork = stateLevel == Level.INVOCATION
+                || setups.containsKey(Level.INVOCATION)
+                || teardowns.containsKey(Level.INVOCATION);
+        boolean iterationWork = stateLevel == Level.ITERATION
+                || setups.containsKey(Level.ITERATION)
+                || teardowns.containsKey(Level.ITERATION);
+        return !invocationWork && !(iterationWork && invocationsPerIteration == 1);
+    }
+
+    /**
+     * Runs one untimed invocation for throughput measurement, between
+     * {@link #beforeConcurrentTrial()} and {@link #afterConcurrentTrial()}. Invocation-level
+     * state and hooks are applied to a local state, so concurrent callers do not interfere.
+     */
+    @Override
+    void invoke() {
+        S current = stateLevel == Level.INVOCATION ? stateSupplier.get() : state;
+        runHook(setups, Level.INVOCATION, current);
+        blackhole.consume(function.apply(current));
+        runHook(teardowns, Level.INVOCATION, current);
+    }
+
+    private void beginIteration() {
+        if (stateLevel == Level.ITERATION) {
+            state = stateSupplier.get();
+        }
+        runHook(setups, Level.ITERATION, state);
+    }
+
+    private void endIteration() {
+        runHook(teardowns, Level.ITERATION, state);
+    }
+
+    private void runHook(Map<Level, Consumer<? super S>> hooks, Level level, S target) {
+        Consumer<? super S> hook = hooks.get(level);
+        if (hook != null) {
+            hook.accept(target);
+        }
+    }
+
+    /**
+     * The granularity at which state is created and hooks run.
+     */
+    public enum Level {
+        TRIAL,
+        ITERATION,
+        INVOCATION
+    }
+}
@@ -8,12 +8,20 @@ import de.vandermeer.asciitable.AsciiTable;
 import de.vandermeer.asciitable.CWC_LongestLine;
 import org.apache.commons.lang3.text.WordUtils;
 
+import java.io.OutputStreamWriter;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
 
 
 /**
  * Utility class for printing tables in a formatted manner using ASCII art.
+ * <p>
+ * {@link #renderTable(String[], String[][])} lays out the whole table before printing it.
+ * For very large tables, {@link #renderTable(String[], Stream)} and {@link TableWriter}
+ * print rows as they go.
+ * </p>
  *
  * @author Ng, Zhi Yang
  * @since 1.0
@@ -62,6 +70,50 @@ public class TableUtils {
         renderTable(headers, data.toArray(String[][]::new));
     }
 
+    /**
+     * Renders a table from a stream of rows, printing each row as it arrives instead of
+     * building the whole table first, so tables of any length can be printed. Columns are
+     * sized from the headers and the first {@value TableWriter#DEFAULT_SAMPLE_SIZE} rows;
+     * longer cells in later rows are truncated.
+     *
+     * @param headers the headers of the table
+     * @param rows    the rows of the table
+     * @see TableWriter
+     */
+    public static void renderTable(String[] headers, Stream<String[]> rows) {
+        new TableWriter().write(headers, rows.iterator(), new OutputStreamWriter(System.out, System.out.charset()));
+    }
+
+    /**
+     * Renders a CSV file whose first record holds the headers.
+     *
+     * @param file the CSV file
+     * @see #renderCsv(Path, CsvReader)
+     */
+    public static void renderCsv(Path file) {
+        renderCsv(file, new CsvReader().withHeader());
+    }
+
+    /**
+     * Renders a CSV file read with the given reader, so that for example only selected
+     * columns are shown. The first record, projected like the others, holds the headers,
+     * whether or not the reader was configured {@link CsvReader#withHeader()}. Short
+     * records are padded with empty cells.
+     *
+     * @param file   the CSV file
+     * @param reader the reader
+     */
+    public static void renderCsv(Path file, CsvReader reader) {
+        String[] headers = reader.readHeader(file);
+        List<String[]> rows = reader.readAll(file);
+        if (!reader.hasHeader() && !rows.isEmpty()) {
+            rows = rows.subList(1, rows.size());
+        }
+        renderTable(headers, rows.stream()
+                .map(row -> padRow(row, headers.length))
+                .toArray(String[][]::new));
+    }
+
     /**
      * Renders a table with the given headers and raw data.
      *
@@ -97,6 +149,15 @@ public class TableUtils {
         return WordUtils.uncapitalize(fieldName);
     }
 
+    private static String[] padRow(String[] row, int width) {
+        if (row.length >= width) {
+            return row.length == width ? row : Arrays.copyOf(row, width);
+        }
+        String[] padded = Arrays.copyOf(row, width);
+        Arrays.fill(padded, row.length, width, "");
+        return padded;
+    }
+
     private static void checkHeaders(String[] headers) {
         Asserts.isNotEmpty(headers, IllegalArgumentException.class, "Headers cannot be null or empty");
     }
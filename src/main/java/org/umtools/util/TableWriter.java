@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Writes a table row by row, in the same box-drawing style as
+ * {@link TableUtils#renderTable(String[], String[][])}, without holding the table in memory.
+ * <p>
+ * Column widths must be known before the first row is written. Given an
+ * {@link Iterable}, the writer makes a first pass over the rows to measure them, and
+ * a second to write them, so every cell fits. Given an {@link Iterator} or
+ * {@link Stream}, which can be traversed only once, the widths are taken from the
+ * headers and the first {@link #sample(int) sampled} rows, which are buffered; cells
+ * of later rows that do not fit are {@link Overflow#TRUNCATE truncated} or
+ * {@link Overflow#WRAP wrapped}. Either way, memory use does not grow with the number
+ * of rows.
+ * </p>
+ * <pre>{@code
+ * try (ChannelWriter out = FileUtils.newWriter(path, false)) {
+ *     new TableWriter().sample(500).overflow(TableWriter.Overflow.WRAP).write(headers, rows, out);
+ * }
+ * }</pre>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public class TableWriter {
+
+    /**
+     * Default number of rows sampled to size columns.
+     */
+    public static final int DEFAULT_SAMPLE_SIZE = 1000;
+
+    private static final String ELLIPSIS = "...";
+
+    private int sampleSize = DEFAULT_SAMPLE_SIZE;
+    private int maxColumnWidth = Integer.MAX_VALUE;
+    private Overflow overflow = Overflow.TRUNCATE;
+    private boolean rowRules;
+
+    /**
+     * How a cell wider than its column is written.
+     */
+    public enum Overflow {
+
+        /**
+         * Cut the cell to the column width, ending it with {@code "..."}.
+         */
+        TRUNCATE,
+
+        /**
+         * Wrap the cell onto further lines of the row, breaking at spaces where possible.
+         */
+        WRAP
+    }
+
+    /**
+     * Sets how many leading rows of an {@link Iterator} or {@link Stream} are buffered to
+     * size the columns.
+     *
+     * @param rows the number of rows, at least 0
+     * @return this writer
+     */
+    public TableWriter sample(int rows) {
+        Asserts.isTrue(rows >= 0, IllegalArgumentException.class, "Sample size cannot be negative");
+        this.sampleSize = rows;
+        return this;
+    }
+
+    /**
+     * Limits every column to the given width, even if its cells or header are wider.
+     *
+     * @param width the maximum width in characters, at least 1
+     * @return this writer
+     */
+    public TableWriter maxColumnWidth(int width) {
+        Asserts.isTrue(width > 0, IllegalArgumentException.class, "Column width must be positive");
+        this.maxColumnWidth = width;
+        return this;
+    }
+
+    /**
+     * Sets how cells wider than their column are written. The default is
+     * {@link Overflow#TRUNCATE}.
+     *
+     * @param overflow the overflow policy
+     * @return this writer
+     */
+    public TableWriter overflow(Overflow overflow) {
+        this.overflow = overflow;
+        return this;
+    }
+
+    /**
+     * Draws a rule after every row, as {@link TableUtils#renderTable(String[], String[][])}
+     * does. By default only the header is separated from the rows.
+     *
+     * @return this writer
+     */
+    public TableWriter ruleBetweenRows() {
+        this.rowRules = true;
+        return this;
+    }
+
+    /**
+     * Writes a table whose rows can be iterated twice, sizing every column to fit its
+     * widest cell, up to the {@link #maxColumnWidth(int) maximum width}.
+     *
+     * @param headers the headers
+     * @param rows    the rows, iterated once to measure and once to write
+     * @param out     the destination, which is flushed but not closed
+     * @throws UncheckedIOException if writing fails
+     */
+    public void write(String[] headers, Iterable<String[]> rows, Writer out) {
+        checkHeaders(headers);
+        int[] widths = headerWidths(headers);
+        for (String[] row : rows) {
+            measure(row, widths);
+        }
+        writeRows(headers, widths, List.of(), rows.iterator(), out);
+    }
+
+    /**
+     * Writes a table whose rows can be traversed only once, sizing the columns from the
+     * headers and the sampled rows.
+     *
+     * @param headers the headers
+     * @param rows    the rows
+     * @param out     the destination, which is flushed but not closed
+     * @throws UncheckedIOException if writing fails
+     */
+    public void write(String[] headers, Iterator<String[]> rows, Writer out) {
+        checkHeaders(headers);
+        int[] widths = headerWidths(headers);
+        List<String[]> sample = new ArrayList<>(Math.min(sampleSize, DEFAULT_SAMPLE_SIZE));
+        while (sample.size() < sampleSize && rows.hasNext()) {
+            String[] row = rows.next();
+            measure(row, widths);
+            sample.add(row);
+        }
+        writeRows(headers, widths, sample, rows, out);
+    }
+
+    /**
+     * Writes a table from a stream of rows, sizing the columns from the headers and the
+     * sampled rows.
+     *
+     * @param headers the headers
+     * @param rows    the rows
+     * @param out     the destination, which is flushed but not closed
+     * @throws UncheckedIOException if writing fails
+     * @see #write(String[], Iterator, Writer)
+     */
+    public void write(String[] headers, Stream<String[]> rows, Writer out) {
+        write(headers, rows.iterator(), out);
+    }
+
+    /**
+     * Writes a table from a stream of rows as UTF-8 to an output stream, sizing the
+     * columns from the headers and the sampled rows.
+     *
+     * @param headers the headers
+     * @param rows    the rows
+     * @param out     the destination, which is flushed but not closed
+     * @throws UncheckedIOException if writing fails
+     * @see #write(String[], Iterator, Writer)
+     */
+    public void write(String[] headers, Stream<String[]> rows, OutputStream out) {
+        write(headers, rows.iterator(), new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+    }
+
+    private int[] headerWidths(String[] headers) {
+        int[] widths = new int[headers.length];
+        // Every column is at least 1 wide, so later cells in an empty column can still wrap.
+        Arrays.fill(widths, 1);
+        measure(headers, widths);
+        return widths;
+    }
+
+    private void measure(String[] row, int[] widths) {
+        for (int i = 0; i < Math.min(row.length, widths.length); i++) {
+            widths[i] = Math.min(maxColumnWidth, Math.max(widths[i], naturalWidth(row[i])));
+        }
+    }
+
+    private void writeRows(String[] headers, int[] widths, List<String[]> buffered, Iterator<String[]> rest, Writer out) {
+        StringBuilder line = new StringBuilder();
+        try {
+            writeRule(line, widths, '┌', '┬', '┐', out);
+            writeRow(line, headers, widths, out);
+            writeRule(line, widths, '├', '┼', '┤', out);
+            boolean first = true;
+            for (String[] row : buffered) {
+                first = writeBodyRow(line, row, widths, first, out);
+            }
+            while (rest.hasNext()) {
+                first = writeBodyRow(line, rest.next(), widths, first, out);
+            }
+            writeRule(line, widths, '└', '┴', '┘', out);
+            out.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write table", ex);
+        }
+    }
+
+    private boolean writeBodyRow(StringBuilder line, String[] row, int[] widths, boolean first, Writer out) throws IOException {
+        if (rowRules && !first) {
+            writeRule(line, widths, '├', '┼', '┤', out);
+        }
+        writeRow(line, row, widths, out);
+        return false;
+    }
+
+    /**
+     * Writes one row as one or more lines. Missing cells are empty and extra cells are
+     * ignored.
+     */
+    private void writeRow(StringBuilder line, String[] row, int[] widths, Writer out) throws IOException {
+        List<List<String>> cells = new ArrayList<>(widths.length);
+        int height = 1;
+        for (int i = 0; i < widths.length; i++) {
+            List<String> lines = fit(i < row.length && row[i] != null ? row[i] : "", widths[i]);
+            cells.add(lines);
+            height = Math.max(height, lines.size());
+        }
+        for (int l = 0; l < height; l++) {
+            line.setLength(0);
+            line.append('│');
+            for (int i = 0; i < widths.length; i++) {
+                List<String> lines = cells.get(i);
+                String text = l < lines.size() ? lines.get(l) : "";
+                line.append(' ').append(text);
+                pad(line, ' ', widths[i] - text.length() + 1);
+                line.append('│');
+            }
+            out.append(line).append('\n');
+        }
+    }
+
+    /**
+     * Splits a cell into lines that fit the width, truncating or wrapping as configured.
+     */
+    private List<String> fit(String cell, int width) {
+        if (overflow == Overflow.TRUNCATE) {
+            String flat = cell.indexOf('\n') < 0 ? cell : cell.replace("\r\n", " ").replace('\n', ' ');
+            return List.of(truncate(flat, width));
+        }
+        if (cell.length() <= width && cell.indexOf('\n') < 0) {
+            return List.of(cell);
+        }
+        List<String> lines = new ArrayList<>();
+        for (String paragraph : cell.split("\r?\n", -1)) {
+            if (paragraph.length() <= width) {
+                lines.add(paragraph);
+            } else {
+                wrap(paragraph, width, lines);
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Breaks a paragraph into lines of at most {@code width} characters at spaces, which
+     * are dropped, and cuts words longer than the width.
+     */
+    private static void wrap(String paragraph, int width, List<String> lines) {
+        int start = 0;
+        int length = paragraph.length();
+        while (length - start > width) {
+            int limit = start + width;
+            int space = paragraph.lastIndexOf(' ', limit);
+            if (space > start) {
+                lines.add(paragraph.substring(start, space));
+                start = space + 1;
+            } else if (space < start) {
+                lines.add(paragraph.substring(start, limit));
+                start = limit;
+            } else {
+                start++;
+            }
+        }
+        if (start < length || lines.isEmpty()) {
+            lines.add(paragraph.substring(start));
+        }
+    }
+
+    private static String truncate(String text, int width) {
+        if (text.length() <= width) {
+            return text;
+        }
+        if (width <= ELLIPSIS.length()) {
+            return text.substring(0, width);
+        }
+        return text.substring(0, width - ELLIPSIS.length()) + ELLIPSIS;
+    }
+
+    private static void writeRule(StringBuilder line, int[] widths, char left, char middle, char right, Writer out)
+            throws IOException {
+        line.setLength(0);
+        line.append(left);
+        for (int i = 0; i < widths.length; i++) {
+            if (i > 0) {
+                line.append(middle);
+            }
+            pad(line, '─', widths[i] + 2);
+        }
+        line.append(right);
+        out.append(line).append('\n');
+    }
+
+    private static void pad(StringBuilder line, char c, int count) {
+        for (int i = 0; i < count; i++) {
+            line.append(c);
+        }
+    }
+
+    /**
+     * Returns the width a cell needs: its length when truncating, since line breaks are
+     * then flattened, or the length of its longest line when wrapping, not counting the
+     * {@code '\r'} of a {@code "\r\n"} break.
+     */
+    private int naturalWidth(String cell) {
+        if (cell == null) {
+            return 0;
+        }
+        if (overflow == Overflow.TRUNCATE) {
+            return cell.length();
+        }
+        int longest = 0;
+        int start = 0;
+        int end = cell.indexOf('\n');
+        while (end >= 0) {
+            int lineEnd = end > start && cell.charAt(end - 1) == '\r' ? end - 1 : end;
+            longest = Math.max(longest, lineEnd - start);
+            start = end + 1;
+            end = cell.indexOf('\n', start);
+        }
+        return Math.max(longest, cell.length() - start);
+    }
+
+    private static void checkHeaders(String[] headers) {
+        Asserts.isNotEmpty(headers, IllegalArgumentException.class, "Headers cannot be null or empty");
+    }
+}
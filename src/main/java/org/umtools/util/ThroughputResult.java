@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import java.util.Arrays;
+
+/**
+ * The outcome of running a benchmark task concurrently for a fixed duration.
+ * Holds the number of completed operations per thread and the wall-clock
+ * time the measurement window was open.
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public class ThroughputResult {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final String name;
+    private final BenchmarkRunner.ThreadMode mode;
+    private final long[] opsPerThread;
+    private final long elapsedNanos;
+
+    public ThroughputResult(String name, BenchmarkRunner.ThreadMode mode, long[] opsPerThread, long elapsedNanos) {
+        this.name = name;
+        this.mode = mode;
+        this.opsPerThread = opsPerThread.clone();
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BenchmarkRunner.ThreadMode getMode() {
+        return mode;
+    }
+
+    public int getThreads() {
+        return opsPerThread.length;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getTotalOps() {
+        return Arrays.stream(opsPerThread).sum();
+    }
+
+    public long getOps(int thread) {
+        return opsPerThread[thread];
+    }
+
+    /**
+     * Returns the combined throughput of all threads.
+     *
+     * @return operations per second
+     */
+    public double getOpsPerSecond() {
+        return getTotalOps() * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    /**
+     * Returns the throughput of a single thread.
+     *
+     * @param thread index of the thread
+     * @return operations per second
+     */
+    public double getOpsPerSecond(int thread) {
+        return opsPerThread[thread] * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    /**
+     * Returns the slowest single-thread throughput, which exposes unfair scheduling or contention.
+     *
+     * @return operations per second
+     */
+    public double getMinThreadOpsPerSecond() {
+        return Arrays.stream(opsPerThread).min().orElse(0) * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    /**
+     * Returns the fastest single-thread throughput.
+     *
+     * @return operations per second
+     */
+    public double getMaxThreadOpsPerSecond() {
+        return Arrays.stream(opsPerThread).max().orElse(0) * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(String.format("%s - Throughput (%d %s threads): %.0f ops/s",
+                name, getThreads(), mode.label, getOpsPerSecond()));
+        for (int i = 0; i < opsPerThread.length; i++) {
+            builder.append(String.format("%n  thread %d: %.0f ops/s", i, getOpsPerSecond(i)));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+/**
+ * The measured cost and granularity of {@link System#nanoTime()} on this JVM.
+ * <p>
+ * Calibration runs once, the first time {@link #get()} is called, and takes a few
+ * milliseconds. Benchmarks use it to size timed batches so that timer noise stays
+ * below a given fraction of the measured time, and to subtract the timer cost from
+ * the result.
+ * </p>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public final class TimerCalibration {
+
+    private static final int WARMUP_CALLS = 200_000;
+    private static final int OVERHEAD_CALLS = 1_000_000;
+    private static final int GRANULARITY_STEPS = 1_000;
+
+    private final double overheadNanos;
+    private final long granularityNanos;
+
+    private TimerCalibration(double overheadNanos, long granularityNanos) {
+        this.overheadNanos = overheadNanos;
+        this.granularityNanos = granularityNanos;
+    }
+
+    /**
+     * Returns the calibration of this JVM, measuring it on first use.
+     *
+     * @return the calibration
+     */
+    public static TimerCalibration get() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Returns the average cost of one {@code System.nanoTime()} call.
+     *
+     * @return overhead in ns
+     */
+    public double getOverheadNanos() {
+        return overheadNanos;
+    }
+
+    /**
+     * Returns the smallest non-zero difference observed between two consecutive readings.
+     *
+     * @return granularity in ns, at least 1
+     */
+    public long getGranularityNanos() {
+        return granularityNanos;
+    }
+
+    /**
+     * Returns the shortest timed interval whose timer error, overhead plus granularity,
+     * stays below the given percentage of the interval.
+     *
+     * @param maxErrorPercent acceptable timer error, e.g. 1.0 for 1%
+     * @return the interval in ns
+     */
+    public long minimumIntervalNanos(double maxErrorPercent) {
+        Asserts.isPositive(maxErrorPercent, IllegalArgumentException.class, "Timer error percentage must be positive");
+        return (long) Math.ceil((overheadNanos + granularityNanos) * 100 / maxErrorPercent);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("nanoTime overhead %.1f ns, granularity %d ns", overheadNanos, granularityNanos);
+    }
+
+    private static TimerCalibration calibrate() {
+        Blackhole blackhole = new Blackhole();
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            blackhole.consume(System.nanoTime());
+        }
+
+        long startTime = System.nanoTime();
+        long last = startTime;
+        for (int i = 0; i < OVERHEAD_CALLS; i++) {
+            last = System.nanoTime();
+        }
+        double overhead = (double) (last - startTime) / OVERHEAD_CALLS;
+
+        long granularity = Long.MAX_VALUE;
+        long previous = System.nanoTime();
+        int steps = 0;
+        while (steps < GRANULARITY_STEPS) {
+            long current = System.nanoTime();
+            if (current != previous) {
+                granularity = Math.min(granularity, current - previous);
+                previous = current;
+                steps++;
+            }
+        }
+        return new TimerCalibration(overhead, Math.max(1, granularity));
+    }
+
+    private static final class Holder {
+        private static final TimerCalibration INSTANCE = calibrate();
+    }
+}
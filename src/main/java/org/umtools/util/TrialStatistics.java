@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+/**
+ * Summary statistics of repeated benchmark trials, with a 95% confidence interval
+ * of the mean and a one-sided Welch's t-test for comparing two sets of trials.
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public class TrialStatistics {
+
+    private static final double[] T_975 = {
+            12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+            2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+            2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+    };
+    private static final double[] T_95 = {
+            6.314, 2.920, 2.353, 2.132, 2.015, 1.943, 1.895, 1.860, 1.833, 1.812,
+            1.796, 1.782, 1.771, 1.761, 1.753, 1.746, 1.740, 1.734, 1.729, 1.725,
+            1.721, 1.717, 1.714, 1.711, 1.708, 1.706, 1.703, 1.701, 1.699, 1.697
+    };
+    private static final double[] T_975_TAIL = {2.021, 2.000, 1.980, 1.960};
+    private static final double[] T_95_TAIL = {1.684, 1.671, 1.658, 1.645};
+
+    private final int count;
+    private final double mean;
+    private final double stdDev;
+
+    public TrialStatistics(int count, double mean, double stdDev) {
+        this.count = count;
+        this.mean = mean;
+        this.stdDev = stdDev;
+    }
+
+    /**
+     * Computes the statistics of the given samples.
+     *
+     * @param samples the trial results, at least one
+     * @return the statistics
+     */
+    public static TrialStatistics of(double... samples) {
+        Asserts.isNotEmpty(samples, IllegalArgumentException.class, "Samples cannot be null or empty");
+        double mean = 0;
+        for (double sample : samples) {
+            mean += sample;
+        }
+        mean /= samples.length;
+        double squares = 0;
+        for (double sample : samples) {
+            squares += (sample - mean) * (sample - mean);
+        }
+        double stdDev = samples.length < 2 ? 0 : Math.sqrt(squares / (samples.length - 1));
+        return new TrialStatistics(samples.length, mean, stdDev);
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public double getStdDev() {
+        return stdDev;
+    }
+
+    /**
+     * Returns the standard deviation relative to the mean.
+     *
+     * @return the coefficient of variation, 0 if the mean is 0
+     */
+    public double getCoefficientOfVariation() {
+        return mean == 0 ? 0 : stdDev / mean;
+    }
+
+    /**
+     * Returns the half-width of the two-sided 95% confidence interval of the mean.
+     *
+     * @return the half-width, 0 for a single sample
+     */
+    public double getConfidenceInterval() {
+        if (count < 2) {
+            return 0;
+        }
+        return tQuantile(T_975, T_975_TAIL, count - 1) * stdDev / Math.sqrt(count);
+    }
+
+    /**
+     * Tests whether these trials are slower than the baseline by more than the given
+     * relative threshold, and whether the difference is significant at the 95% level
+     * according to a one-sided Welch's t-test.
+     *
+     * @param baseline  the statistics to compare against
+     * @param threshold the minimum relative slowdown worth reporting, e.g. 0.05 for 5%
+     * @return true if this is a significant slowdown, never when either side has fewer
+     *         than two trials
+     */
+    public boolean isSignificantlySlowerThan(TrialStatistics baseline, double threshold) {
+        if (mean <= baseline.mean * (1 + threshold)) {
+            return false;
+        }
+        if (count < 2 || baseline.count < 2) {
+            return false;
+        }
+        double thisVariance = stdDev * stdDev / count;
+        double baselineVariance = baseline.stdDev * baseline.stdDev / baseline.count;
+        double standardError = Math.sqrt(thisVariance + baselineVariance);
+        if (standardError == 0) {
+            return true;
+        }
+        double t = (mean - baseline.mean) / standardError;
+        double degreesOfFreedom = (thisVariance + baselineVariance) * (thisVariance + baselineVariance)
+                / (thisVariance * thisVariance / (count - 1) + baselineVariance * baselineVariance / (baseline.count - 1));
+        return t > tQuantile(T_95, T_95_TAIL, (int) Math.max(1, Math.floor(degreesOfFreedom)));
+    }
+
+    /**
+     * Returns the relative change of the mean compared to the baseline.
+     *
+     * @param baseline the statistics to compare against
+     * @return the change, e.g. 0.1 for 10% slower
+     */
+    public double relativeChange(TrialStatistics baseline) {
+        return baseline.mean == 0 ? 0 : (mean - baseline.mean) / baseline.mean;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.1f +/- %.1f ns (n=%d)", mean, getConfidenceInterval(), count);
+    }
+
+    /**
+     * Looks up a Student's t quantile, rounding the degrees of freedom down to the
+     * nearest tabulated value so that the result errs on the conservative side.
+     */
+    private static double tQuantile(double[] table, double[] tail, int degreesOfFreedom) {
+        if (degreesOfFreedom <= table.length) {
+            return table[degreesOfFreedom - 1];
+        }
+        if (degreesOfFreedom < 40) {
+            return table[table.length - 1];
+        }
+        if (degreesOfFreedom < 60) {
+            return tail[0];
+        }
+        if (degreesOfFreedom < 120) {
+            return tail[1];
+        }
+        return degreesOfFreedom < 1000 ? tail[2] : tail[3];
+    }
+}
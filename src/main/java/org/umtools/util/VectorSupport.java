@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+/**
+ * Decides once, at class initialization, whether vectorized kernels may be used.
+ * <p>
+ * The {@code jdk.incubator.vector} module is only resolved when the JVM is started
+ * with {@code --add-modules jdk.incubator.vector}. Without it, classes that reference
+ * the Vector API cannot be loaded, so callers must check {@link #ENABLED} before
+ * touching them and fall back to scalar loops otherwise. Setting the system property
+ * {@code umtools.vector.disabled=true} forces the scalar path.
+ * </p>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+final class VectorSupport {
+
+    /**
+     * Whether the Vector API is available and not disabled.
+     */
+    static final boolean ENABLED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+            && !Boolean.getBoolean("umtools.vector.disabled");
+
+    /**
+     * Arrays shorter than this are processed by scalar loops, where setting up
+     * vectors costs more than it saves.
+     */
+    static final int MIN_LENGTH = 32;
+
+    private VectorSupport() {
+    }
+
+    static boolean useVectors(int length) {
+        return ENABLED && length >= MIN_LENGTH;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API implementations of {@link ArrayChecks}. Only loaded when
+ * {@link VectorSupport#ENABLED} is true.
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+final class VectorizedArrayChecks {
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+    private VectorizedArrayChecks() {
+    }
+
+    static int firstNotBetween(double[] array, double startInclusive, double endInclusive) {
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(array.length); i < bound; i += DOUBLES.length()) {
+            DoubleVector vector = DoubleVector.fromArray(DOUBLES, array, i);
+            VectorMask<Double> failing = vector.compare(VectorOperators.GE, startInclusive)
+                    .and(vector.compare(VectorOperators.LE, endInclusive))
+                    .not();
+            if (failing.anyTrue()) {
+                return i + failing.firstTrue();
+            }
+        }
+        for (; i < array.length; i++) {
+            if (!(array[i] >= startInclusive && array[i] <= endInclusive)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int firstNotBetween(int[] array, int startInclusive, int endInclusive) {
+        int i = 0;
+        for (int bound = INTS.loopBound(array.length); i < bound; i += INTS.length()) {
+            IntVector vector = IntVector.fromArray(INTS, array, i);
+            VectorMask<Integer> failing = vector.compare(VectorOperators.LT, startInclusive)
+                    .or(vector.compare(VectorOperators.GT, endInclusive));
+            if (failing.anyTrue()) {
+                return i + failing.firstTrue();
+            }
+        }
+        for (; i < array.length; i++) {
+            if (array[i] < startInclusive || array[i] > endInclusive) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int firstNonFinite(double[] array) {
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(array.length); i < bound; i += DOUBLES.length()) {
+            VectorMask<Double> failing = DoubleVector.fromArray(DOUBLES, array, i)
+                    .test(VectorOperators.IS_FINITE)
+                    .not();
+            if (failing.anyTrue()) {
+                return i + failing.firstTrue();
+            }
+        }
+        for (; i < array.length; i++) {
+            if (!Double.isFinite(array[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int firstNegative(double[] array) {
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(array.length); i < bound; i += DOUBLES.length()) {
+            VectorMask<Double> failing = DoubleVector.fromArray(DOUBLES, array, i)
+                    .compare(VectorOperators.GE, 0.0)
+                    .not();
+            if (failing.anyTrue()) {
+                return i + failing.firstTrue();
+            }
+        }
+        for (; i < array.length; i++) {
+            if (!(array[i] >= 0)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int firstNegative(int[] array) {
+        int i = 0;
+        for (int bound = INTS.loopBound(array.length); i < bound; i += INTS.length()) {
+            VectorMask<Integer> failing = IntVector.fromArray(INTS, array, i)
+                    .compare(VectorOperators.LT, 0);
+            if (failing.anyTrue()) {
+                return i + failing.firstTrue();
+            }
+        }
+        for (; i < array.length; i++) {
+            if (array[i] < 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
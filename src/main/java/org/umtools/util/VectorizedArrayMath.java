@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API implementations of {@link ArrayMath}. Only loaded when
+ * {@link VectorSupport#ENABLED} is true.
+ * <p>
+ * {@code int} reductions widen each vector of ints into vectors of longs before
+ * accumulating, so they give the same results as the scalar {@code long} loops.
+ * </p>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+final class VectorizedArrayMath {
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final int LONG_PARTS = INTS.length() / LONGS.length();
+
+    private VectorizedArrayMath() {
+    }
+
+    static long sum(int[] array) {
+        LongVector acc = LongVector.zero(LONGS);
+        int i = 0;
+        for (int bound = INTS.loopBound(array.length); i < bound; i += INTS.length()) {
+            IntVector vector = IntVector.fromArray(INTS, array, i);
+            for (int part = 0; part < LONG_PARTS; part++) {
+                acc = acc.add((LongVector) vector.convertShape(VectorOperators.I2L, LONGS, part));
+            }
+        }
+        long sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < array.length; i++) {
+            sum += array[i];
+        }
+        return sum;
+    }
+
+    static double sum(double[] array) {
+        DoubleVector acc = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(array.length); i < bound; i += DOUBLES.length()) {
+            acc = acc.add(DoubleVector.fromArray(DOUBLES, array, i));
+        }
+        double sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < array.length; i++) {
+            sum += array[i];
+        }
+        return sum;
+    }
+
+    static int min(int[] array) {
+        IntVector acc = IntVector.broadcast(INTS, array[0]);
+        int i = 0;
+        for (int bound = INTS.loopBound(array.length); i < bound; i += INTS.length()) {
+            acc = acc.min(IntVector.fromArray(INTS, array, i));
+        }
+        int min = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < array.length; i++) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    static double min(double[] array) {
+        DoubleVector acc = DoubleVector.broadcast(DOUBLES, array[0]);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(array.length); i < bound; i += DOUBLES.length()) {
+            acc = acc.min(DoubleVector.fromArray(DOUBLES, array, i));
+        }
+        double min = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < array.length; i++) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    static int max(int[] array) {
+        IntVector acc = IntVector.broadcast(INTS, array[0]);
+        int i = 0;
+        for (int bound = INTS.loopBound(array.length); i < bound; i += INTS.length()) {
+            acc = acc.max(IntVector.fromArray(INTS, array, i));
+        }
+        int max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < array.length; i++) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    static double max(double[] array) {
+        DoubleVector acc = DoubleVector.broadcast(DOUBLES, array[0]);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(array.length); i < bound; i += DOUBLES.length()) {
+            acc = acc.max(DoubleVector.fromArray(DOUBLES, array, i));
+        }
+        double max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < array.length; i++) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Finds the maximum in one pass, then its first occurrence in a second. Both passes
+     * are branch-free per vector, which beats a single scalar pass that tracks the index.
+     */
+    static int argmax(int[] array) {
+        int max = max(array);
+        int i = 0;
+        for (int bound = INTS.loopBound(array.length); i < bound; i += INTS.length()) {
+            VectorMask<Integer> found = IntVector.fromArray(INTS, array, i).compare(VectorOperators.EQ, max);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        while (array[i] != max) {
+            i++;
+        }
+        return i;
+    }
+
+    static int argmax(double[] array) {
+        double max = max(array);
+        if (Double.isNaN(max)) {
+            return firstNaN(array);
+        }
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(array.length); i < bound; i += DOUBLES.length()) {
+            VectorMask<Double> found = DoubleVector.fromArray(DOUBLES, array, i).compare(VectorOperators.EQ, max);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        while (array[i] != max) {
+            i++;
+        }
+        return i;
+    }
+
+    static long dot(int[] x, int[] y) {
+        LongVector acc = LongVector.zero(LONGS);
+        int i = 0;
+        for (int bound = INTS.loopBound(x.length); i < bound; i += INTS.length()) {
+            IntVector xs = IntVector.fromArray(INTS, x, i);
+            IntVector ys = IntVector.fromArray(INTS, y, i);
+            for (int part = 0; part < LONG_PARTS; part++) {
+                LongVector xl = (LongVector) xs.convertShape(VectorOperators.I2L, LONGS, part);
+                LongVector yl = (LongVector) ys.convertShape(VectorOperators.I2L, LONGS, part);
+                acc = acc.add(xl.mul(yl));
+            }
+        }
+        long sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < x.length; i++) {
+            sum += (long) x[i] * y[i];
+        }
+        return sum;
+    }
+
+    static double dot(double[] x, double[] y) {
+        DoubleVector acc = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(x.length); i < bound; i += DOUBLES.length()) {
+            acc = DoubleVector.fromArray(DOUBLES, x, i).fma(DoubleVector.fromArray(DOUBLES, y, i), acc);
+        }
+        double sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < x.length; i++) {
+            sum += x[i] * y[i];
+        }
+        return sum;
+    }
+
+    static void axpy(int a, int[] x, int[] y) {
+        int i = 0;
+        for (int bound = INTS.loopBound(x.length); i < bound; i += INTS.length()) {
+            IntVector.fromArray(INTS, x, i).mul(a).add(IntVector.fromArray(INTS, y, i)).intoArray(y, i);
+        }
+        for (; i < x.length; i++) {
+            y[i] += a * x[i];
+        }
+    }
+
+    /**
+     * Multiplies and adds separately rather than fusing, so every element is rounded
+     * exactly as in the scalar loop.
+     */
+    static void axpy(double a, double[] x, double[] y) {
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(x.length); i < bound; i += DOUBLES.length()) {
+            DoubleVector.fromArray(DOUBLES, x, i).mul(a).add(DoubleVector.fromArray(DOUBLES, y, i)).intoArray(y, i);
+        }
+        for (; i < x.length; i++) {
+            y[i] += a * x[i];
+        }
+    }
+
+    static void add(int[] x, int[] y, int[] dest) {
+        int i = 0;
+        for (int bound = INTS.loopBound(x.length); i < bound; i += INTS.length()) {
+            IntVector.fromArray(INTS, x, i).add(IntVector.fromArray(INTS, y, i)).intoArray(dest, i);
+        }
+        for (; i < x.length; i++) {
+            dest[i] = x[i] + y[i];
+        }
+    }
+
+    static void add(double[] x, double[] y, double[] dest) {
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(x.length); i < bound; i += DOUBLES.length()) {
+            DoubleVector.fromArray(DOUBLES, x, i).add(DoubleVector.fromArray(DOUBLES, y, i)).intoArray(dest, i);
+        }
+        for (; i < x.length; i++) {
+            dest[i] = x[i] + y[i];
+        }
+    }
+
+    static void multiply(int[] x, int[] y, int[] dest) {
+        int i = 0;
+        for (int bound = INTS.loopBound(x.length); i < bound; i += INTS.length()) {
+            IntVector.fromArray(INTS, x, i).mul(IntVector.fromArray(INTS, y, i)).intoArray(dest, i);
+        }
+        for (; i < x.length; i++) {
+            dest[i] = x[i] * y[i];
+        }
+    }
+
+    static void multiply(double[] x, double[] y, double[] dest) {
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(x.length); i < bound; i += DOUBLES.length()) {
+            DoubleVector.fromArray(DOUBLES, x, i).mul(DoubleVector.fromArray(DOUBLES, y, i)).intoArray(dest, i);
+        }
+        for (; i < x.length; i++) {
+            dest[i] = x[i] * y[i];
+        }
+    }
+
+    static void fill(int[] array, int value) {
+        IntVector vector = IntVector.broadcast(INTS, value);
+        int i = 0;
+        for (int bound = INTS.loopBound(array.length); i < bound; i += INTS.length()) {
+            vector.intoArray(array, i);
+        }
+        for (; i < array.length; i++) {
+            array[i] = value;
+        }
+    }
+
+    static void fill(double[] array, double value) {
+        DoubleVector vector = DoubleVector.broadcast(DOUBLES, value);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(array.length); i < bound; i += DOUBLES.length()) {
+            vector.intoArray(array, i);
+        }
+        for (; i < array.length; i++) {
+            array[i] = value;
+        }
+    }
+
+    static void scaledCopy(int[] source, int factor, int[] dest) {
+        int i = 0;
+        for (int bound = INTS.loopBound(source.length); i < bound; i += INTS.length()) {
+            IntVector.fromArray(INTS, source, i).mul(factor).intoArray(dest, i);
+        }
+        for (; i < source.length; i++) {
+            dest[i] = factor * source[i];
+        }
+    }
+
+    static void scaledCopy(double[] source, double factor, double[] dest) {
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(source.length); i < bound; i += DOUBLES.length()) {
+            DoubleVector.fromArray(DOUBLES, source, i).mul(factor).intoArray(dest, i);
+        }
+        for (; i < source.length; i++) {
+            dest[i] = factor * source[i];
+        }
+    }
+
+    private static int firstNaN(double[] array) {
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(array.length); i < bound; i += DOUBLES.length()) {
+            VectorMask<Double> found = DoubleVector.fromArray(DOUBLES, array, i).test(VectorOperators.IS_NAN);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        while (!Double.isNaN(array[i])) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+/**
+ * The outcome of an adaptive warmup: how long it took, how many timed batches
+ * were run, and whether the batch times settled before the time cap.
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public class WarmupResult {
+
+    private final String name;
+    private final boolean steadyState;
+    private final long warmupNanos;
+    private final int batches;
+    private final double coefficientOfVariation;
+
+    public WarmupResult(String name, boolean steadyState, long warmupNanos, int batches, double coefficientOfVariation) {
+        this.name = name;
+        this.steadyState = steadyState;
+        this.warmupNanos = warmupNanos;
+        this.batches = batches;
+        this.coefficientOfVariation = coefficientOfVariation;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns whether the batch times settled below the threshold before the time cap.
+     *
+     * @return true if steady state was reached
+     */
+    public boolean isSteadyState() {
+        return steadyState;
+    }
+
+    /**
+     * Returns the wall-clock time spent warming up, which is the time to steady
+     * state if it was reached.
+     *
+     * @return warmup time in ns
+     */
+    public long getWarmupNanos() {
+        return warmupNanos;
+    }
+
+    public int getBatches() {
+        return batches;
+    }
+
+    /**
+     * Returns the coefficient of variation of the last window of batch times.
+     *
+     * @return the coefficient of variation, e.g. 0.02 for 2%
+     */
+    public double getCoefficientOfVariation() {
+        return coefficientOfVariation;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s steady state after %.3f ms (%d batches, CV %.2f%%)",
+                steadyState ? "reached" : "did not reach", warmupNanos / 1_000_000.0, batches, coefficientOfVariation * 100);
+    }
+}
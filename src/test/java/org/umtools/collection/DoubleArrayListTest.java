@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks {@link DoubleArrayList} against {@link ArrayList}, and that values are compared
+ * as by {@link Double#compare(double, double)}.
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+class DoubleArrayListTest {
+
+    @Test
+    void matchesArrayListUnderRandomOperations() {
+        Random random = new Random(13);
+        DoubleArrayList list = new DoubleArrayList(0);
+        List<Double> expected = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            double value = random.nextInt(100) / 4.0;
+            switch (random.nextInt(5)) {
+                case 0 -> {
+                    list.add(value);
+                    expected.add(value);
+                }
+                case 1 -> {
+                    int index = random.nextInt(expected.size() + 1);
+                    list.add(index, value);
+                    expected.add(index, value);
+                }
+                case 2 -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        assertEquals(expected.remove(index), list.removeAt(index));
+                    }
+                }
+                case 3 -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        assertEquals(expected.set(index, value), list.set(index, value));
+                    }
+                }
+                default -> assertEquals(expected.indexOf(value), list.indexOf(value));
+            }
+            assertEquals(expected.size(), list.size());
+        }
+        assertArrayEquals(expected.stream().mapToDouble(Double::doubleValue).toArray(), list.toArray());
+    }
+
+    @Test
+    void comparesValuesLikeDoubleCompare() {
+        DoubleArrayList list = DoubleArrayList.of(0.0, Double.NaN);
+        assertEquals(1, list.indexOf(Double.NaN));
+        assertEquals(-1, list.indexOf(-0.0));
+        assertNotEquals(DoubleArrayList.of(-0.0), DoubleArrayList.of(0.0));
+        assertEquals(DoubleArrayList.of(Double.NaN), DoubleArrayList.of(Double.NaN));
+        assertEquals(DoubleArrayList.of(Double.NaN).hashCode(), DoubleArrayList.of(Double.NaN).hashCode());
+    }
+
+    @Test
+    void checksIndicesAgainstSize() {
+        DoubleArrayList list = new DoubleArrayList(10);
+        list.add(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(-1, 0));
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+}
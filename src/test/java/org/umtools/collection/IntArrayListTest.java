@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks {@link IntArrayList} against {@link ArrayList}, including growth from an empty
+ * backing array and index checks against the size rather than the capacity.
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+class IntArrayListTest {
+
+    @Test
+    void matchesArrayListUnderRandomOperations() {
+        Random random = new Random(9);
+        IntArrayList list = new IntArrayList(0);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            int value = random.nextInt(100);
+            switch (random.nextInt(5)) {
+                case 0 -> {
+                    list.add(value);
+                    expected.add(value);
+                }
+                case 1 -> {
+                    int index = random.nextInt(expected.size() + 1);
+                    list.add(index, value);
+                    expected.add(index, value);
+                }
+                case 2 -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        assertEquals(expected.remove(index), list.removeAt(index));
+                    }
+                }
+                case 3 -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        assertEquals(expected.set(index, value), list.set(index, value));
+                    }
+                }
+                default -> assertEquals(expected.indexOf(value), list.indexOf(value));
+            }
+            assertEquals(expected.size(), list.size());
+        }
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), list.toArray());
+    }
+
+    @Test
+    void checksIndicesAgainstSize() {
+        IntArrayList list = new IntArrayList(10);
+        list.add(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeAt(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(2, 5));
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+
+    @Test
+    void bulkOperations() {
+        IntArrayList list = IntArrayList.of(5, 3, 9);
+        list.addAll(1, 7);
+        list.sort();
+        assertArrayEquals(new int[] {1, 3, 5, 7, 9}, list.toArray());
+        assertTrue(list.contains(7));
+        assertFalse(list.contains(2));
+        list.trimToSize();
+        list.add(11);
+        assertEquals(IntArrayList.of(1, 3, 5, 7, 9, 11), list);
+        assertEquals(IntArrayList.of(1, 3, 5, 7, 9, 11).hashCode(), list.hashCode());
+        assertEquals("[1, 3, 5, 7, 9, 11]", list.toString());
+    }
+}
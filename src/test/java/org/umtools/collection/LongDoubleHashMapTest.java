@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks {@link LongDoubleHashMap} against {@link HashMap}, with keys chosen to share
+ * home slots so that lookups, removals and resizes run through long probe chains.
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+class LongDoubleHashMapTest {
+
+    /**
+     * Capacity of a map created for 4 entries, which holds 6 before it resizes.
+     */
+    private static final int SMALL_MASK = 7;
+
+    @Test
+    void removesFromWrappingProbeChain() {
+        // Slots 7, 0, 1, 2 hold a, neighbour, b, c; the neighbour is at its home slot 0.
+        long[] colliding = keysWithHome(SMALL_MASK, 3);
+        long neighbour = keysWithHome(0, 1)[0];
+        LongDoubleHashMap map = new LongDoubleHashMap(4);
+        map.put(colliding[0], colliding[0] * 0.5);
+        map.put(neighbour, -1);
+        map.put(colliding[1], colliding[1] * 0.5);
+        map.put(colliding[2], colliding[2] * 0.5);
+
+        // b and c shift back past the neighbour, which must stay in place.
+        assertTrue(map.remove(colliding[0]));
+        assertFalse(map.remove(colliding[0]));
+        assertFalse(map.containsKey(colliding[0]));
+        assertEquals(-1, map.getOrDefault(neighbour, 0));
+        assertEquals(colliding[1] * 0.5, map.getOrDefault(colliding[1], 0));
+        assertEquals(colliding[2] * 0.5, map.getOrDefault(colliding[2], 0));
+
+        assertTrue(map.remove(colliding[1]));
+        assertEquals(-1, map.getOrDefault(neighbour, 0));
+        assertEquals(colliding[2] * 0.5, map.getOrDefault(colliding[2], 0));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void keepsZeroKeySeparately() {
+        LongDoubleHashMap map = new LongDoubleHashMap();
+        assertFalse(map.containsKey(0));
+        assertEquals(5, map.getOrDefault(0, 5));
+        map.put(0, 0);
+        assertTrue(map.containsKey(0));
+        assertEquals(1, map.size());
+        assertEquals(1.5, map.addTo(0, 1.5));
+        assertEquals(1.5, map.getOrDefault(0, 5));
+
+        Map<Long, Double> seen = new HashMap<>();
+        map.forEach(seen::put);
+        assertEquals(Map.of(0L, 1.5), seen);
+
+        assertTrue(map.remove(0));
+        assertFalse(map.remove(0));
+        assertTrue(map.isEmpty());
+        assertEquals(5, map.getOrDefault(0, 5));
+    }
+
+    @Test
+    void keepsEntriesAcrossResizes() {
+        LongDoubleHashMap map = new LongDoubleHashMap(0);
+        for (long key = -50_000; key < 50_000; key++) {
+            map.put(key << 32, key);
+        }
+        assertEquals(100_000, map.size());
+        for (long key = -50_000; key < 50_000; key++) {
+            assertEquals(key, map.getOrDefault(key << 32, Double.NaN));
+        }
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(1L << 32));
+        assertFalse(map.containsKey(0));
+    }
+
+    @Test
+    void matchesHashMapUnderRandomOperations() {
+        Random random = new Random(5);
+        LongDoubleHashMap map = new LongDoubleHashMap(0);
+        Map<Long, Double> expected = new HashMap<>();
+        for (int i = 0; i < 200_000; i++) {
+            long key = (random.nextInt(101) - 50) * 0x1_0000_0001L;
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    map.put(key, i);
+                    expected.put(key, (double) i);
+                }
+                case 1 -> assertEquals(expected.merge(key, 0.25, Double::sum), map.addTo(key, 0.25));
+                case 2 -> assertEquals(expected.remove(key) != null, map.remove(key));
+                default -> assertEquals(expected.getOrDefault(key, -1.0), map.getOrDefault(key, -1));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        Map<Long, Double> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+
+    /**
+     * Finds non-zero keys whose home slot in the smallest test table is {@code home}.
+     */
+    private static long[] keysWithHome(int home, int count) {
+        long[] keys = new long[count];
+        int found = 0;
+        for (long key = 1; found < count; key++) {
+            if ((HashTables.mix(key) & SMALL_MASK) == home) {
+                keys[found++] = key;
+            }
+        }
+        return keys;
+    }
+}
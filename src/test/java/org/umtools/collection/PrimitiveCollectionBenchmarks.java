@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.collection;
+
+import org.umtools.util.Benchmark;
+import org.umtools.util.BenchmarkRunner;
+import org.umtools.util.BenchmarkSuite;
+import org.umtools.util.StatefulBenchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Compares the primitive collections with their boxed {@code java.util} counterparts on
+ * a counting workload: {@value #OPERATIONS} keys drawn from {@value #DISTINCT_KEYS}
+ * distinct values.
+ * <p>
+ * Run {@link #main(String[])} to print time and bytes allocated per operation, or pass
+ * the class to {@link org.umtools.util.ForkedBenchmarkRunner} to measure each benchmark
+ * in a fresh JVM.
+ * </p>
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+public class PrimitiveCollectionBenchmarks implements BenchmarkSuite {
+
+    private static final int OPERATIONS = 100_000;
+    private static final int DISTINCT_KEYS = 10_000;
+    private static final long SEED = 42;
+
+    private final int[] keys;
+
+    public PrimitiveCollectionBenchmarks() {
+        Random random = new Random(SEED);
+        keys = new int[OPERATIONS];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt(DISTINCT_KEYS);
+        }
+    }
+
+    public static void main(String[] args) {
+        BenchmarkRunner.runBenchmarksWithProfiling(BenchmarkRunner.BenchmarkType.AVG_TIME, 200,
+                new PrimitiveCollectionBenchmarks().benchmarks());
+    }
+
+    @Override
+    public Benchmark[] benchmarks() {
+        return new Benchmark[]{
+                new StatefulBenchmark<>("IntIntHashMap count", () -> keys, input -> countPrimitive(input)),
+                new StatefulBenchmark<>("HashMap<Integer,Integer> count", () -> keys, input -> countBoxed(input)),
+                new StatefulBenchmark<>("IntIntHashMap lookup", () -> countPrimitive(keys), counts -> lookupPrimitive(counts)),
+                new StatefulBenchmark<>("HashMap<Integer,Integer> lookup", () -> countBoxed(keys), counts -> lookupBoxed(counts)),
+                new StatefulBenchmark<>("IntArrayList add", () -> keys, input -> appendPrimitive(input)),
+                new StatefulBenchmark<>("ArrayList<Integer> add", () -> keys, input -> appendBoxed(input))
+        };
+    }
+
+    private static IntIntHashMap countPrimitive(int[] keys) {
+        IntIntHashMap counts = new IntIntHashMap();
+        for (int key : keys) {
+            counts.addTo(key, 1);
+        }
+        return counts;
+    }
+
+    private static Map<Integer, Integer> countBoxed(int[] keys) {
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (int key : keys) {
+            counts.merge(key, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private long lookupPrimitive(IntIntHashMap counts) {
+        long total = 0;
+        for (int key : keys) {
+            total += counts.getOrDefault(key, 0);
+        }
+        return total;
+    }
+
+    private long lookupBoxed(Map<Integer, Integer> counts) {
+        long total = 0;
+        for (int key : keys) {
+            total += counts.getOrDefault(key, 0);
+        }
+        return total;
+    }
+
+    private static IntArrayList appendPrimitive(int[] keys) {
+        IntArrayList list = new IntArrayList();
+        for (int key : keys) {
+            list.add(key);
+        }
+        return list;
+    }
+
+    private static List<Integer> appendBoxed(int[] keys) {
+        List<Integer> list = new ArrayList<>();
+        for (int key : keys) {
+            list.add(key);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks every {@link VectorizedArrayMath} kernel against its {@link ScalarArrayMath}
+ * fallback, at lengths around the vector width so that both the vector loop and the
+ * scalar tail are exercised, and with NaN, infinite and signed-zero elements.
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+class ArrayMathTest {
+
+    private static final double[] SPECIALS = {
+        Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, -0.0, 0.0, Double.MAX_VALUE, -Double.MIN_VALUE
+    };
+
+    private final Random random = new Random(42);
+
+    @BeforeAll
+    static void requireVectorApi() {
+        assumeTrue(VectorSupport.ENABLED, "Vector API not available; run with --add-modules jdk.incubator.vector");
+    }
+
+    static IntStream intLengths() {
+        return lengths(IntVector.SPECIES_PREFERRED.length());
+    }
+
+    static IntStream doubleLengths() {
+        return lengths(DoubleVector.SPECIES_PREFERRED.length());
+    }
+
+    /**
+     * Returns 0, 1, one short of and one past one and two vectors, the dispatch
+     * threshold and a length well above it.
+     */
+    private static IntStream lengths(int lanes) {
+        return IntStream.of(0, 1, lanes - 1, lanes, lanes + 1, 2 * lanes - 1, 2 * lanes + 1,
+                VectorSupport.MIN_LENGTH, 1000).distinct().sorted();
+    }
+
+    // ========================= int =========================
+
+    @ParameterizedTest
+    @MethodSource("intLengths")
+    void intReductionsMatchScalar(int length) {
+        int[] array = randomInts(length);
+        assertEquals(ScalarArrayMath.sum(array), VectorizedArrayMath.sum(array));
+        int[] other = randomInts(length);
+        assertEquals(ScalarArrayMath.dot(array, other), VectorizedArrayMath.dot(array, other));
+        if (length == 0) {
+            return;
+        }
+        assertEquals(ScalarArrayMath.min(array), VectorizedArrayMath.min(array));
+        assertEquals(ScalarArrayMath.max(array), VectorizedArrayMath.max(array));
+        assertEquals(ScalarArrayMath.argmax(array), VectorizedArrayMath.argmax(array));
+    }
+
+    @ParameterizedTest
+    @MethodSource("intLengths")
+    void intArgmaxReturnsFirstOfTiedMaxima(int length) {
+        if (length == 0) {
+            return;
+        }
+        int[] array = new int[length];
+        array[length - 1] = 7;
+        array[length / 2] = 7;
+        assertEquals(ScalarArrayMath.argmax(array), VectorizedArrayMath.argmax(array));
+    }
+
+    @ParameterizedTest
+    @MethodSource("intLengths")
+    void intElementWiseMatchesScalar(int length) {
+        int[] x = randomInts(length);
+        int[] y = randomInts(length);
+        int a = random.nextInt();
+
+        int[] expected = y.clone();
+        int[] actual = y.clone();
+        ScalarArrayMath.axpy(a, x, expected);
+        VectorizedArrayMath.axpy(a, x, actual);
+        assertArrayEquals(expected, actual, "axpy");
+
+        ScalarArrayMath.add(x, y, expected);
+        VectorizedArrayMath.add(x, y, actual);
+        assertArrayEquals(expected, actual, "add");
+
+        ScalarArrayMath.multiply(x, y, expected);
+        VectorizedArrayMath.multiply(x, y, actual);
+        assertArrayEquals(expected, actual, "multiply");
+
+        ScalarArrayMath.scaledCopy(x, a, expected);
+        VectorizedArrayMath.scaledCopy(x, a, actual);
+        assertArrayEquals(expected, actual, "scaledCopy");
+
+        ScalarArrayMath.fill(expected, a);
+        VectorizedArrayMath.fill(actual, a);
+        assertArrayEquals(expected, actual, "fill");
+    }
+
+    // ========================= double =========================
+
+    @ParameterizedTest
+    @MethodSource("doubleLengths")
+    void doubleReductionsMatchScalar(int length) {
+        double[] array = randomDoubles(length);
+        double[] other = randomDoubles(length);
+        checkDoubleReductions(array, other);
+    }
+
+    @ParameterizedTest
+    @MethodSource("doubleLengths")
+    void doubleReductionsMatchScalarWithSpecialValues(int length) {
+        if (length == 0) {
+            return;
+        }
+        for (double special : SPECIALS) {
+            for (int index : new int[] {0, length / 2, length - 1}) {
+                double[] array = randomDoubles(length);
+                array[index] = special;
+                checkDoubleReductions(array, randomDoubles(length));
+            }
+        }
+    }
+
+    @Test
+    void doubleMinAndMaxOrderSignedZeros() {
+        double[] array = new double[2 * DoubleVector.SPECIES_PREFERRED.length() + 1];
+        array[1] = -0.0;
+        assertEquals(ScalarArrayMath.min(array), VectorizedArrayMath.min(array));
+        assertEquals(-0.0, VectorizedArrayMath.min(array));
+        Arrays.fill(array, -0.0);
+        array[array.length - 1] = 0.0;
+        assertEquals(ScalarArrayMath.max(array), VectorizedArrayMath.max(array));
+        assertEquals(0.0, VectorizedArrayMath.max(array));
+    }
+
+    @ParameterizedTest
+    @MethodSource("doubleLengths")
+    void doubleElementWiseMatchesScalar(int length) {
+        for (double special : SPECIALS) {
+            double[] x = randomDoubles(length);
+            double[] y = randomDoubles(length);
+            if (length > 0) {
+                x[length - 1] = special;
+                y[0] = special;
+            }
+            checkDoubleElementWise(x, y, random.nextGaussian());
+            checkDoubleElementWise(x, y, special);
+        }
+    }
+
+    // ========================= Dispatch =========================
+
+    @ParameterizedTest
+    @MethodSource("doubleLengths")
+    void arrayMathAgreesWithBothPaths(int length) {
+        double[] array = randomDoubles(length);
+        assertEquals(ScalarArrayMath.sum(array), ArrayMath.sum(array), sumTolerance(array));
+        int[] ints = randomInts(length);
+        assertEquals(ScalarArrayMath.sum(ints), ArrayMath.sum(ints));
+        if (length > 0) {
+            assertEquals(ScalarArrayMath.argmax(array), ArrayMath.argmax(array));
+            assertEquals(ScalarArrayMath.min(ints), ArrayMath.min(ints));
+        }
+    }
+
+    private static void checkDoubleReductions(double[] array, double[] other) {
+        assertEquals(ScalarArrayMath.sum(array), VectorizedArrayMath.sum(array), sumTolerance(array), "sum");
+        assertEquals(ScalarArrayMath.dot(array, other), VectorizedArrayMath.dot(array, other),
+                dotTolerance(array, other), "dot");
+        if (array.length == 0) {
+            return;
+        }
+        assertEquals(ScalarArrayMath.min(array), VectorizedArrayMath.min(array), "min");
+        assertEquals(ScalarArrayMath.max(array), VectorizedArrayMath.max(array), "max");
+        assertEquals(ScalarArrayMath.argmax(array), VectorizedArrayMath.argmax(array), "argmax");
+    }
+
+    private static void checkDoubleElementWise(double[] x, double[] y, double a) {
+        double[] expected = y.clone();
+        double[] actual = y.clone();
+        ScalarArrayMath.axpy(a, x, expected);
+        VectorizedArrayMath.axpy(a, x, actual);
+        assertArrayEquals(expected, actual, "axpy");
+
+        ScalarArrayMath.add(x, y, expected);
+        VectorizedArrayMath.add(x, y, actual);
+        assertArrayEquals(expected, actual, "add");
+
+        ScalarArrayMath.multiply(x, y, expected);
+        VectorizedArrayMath.multiply(x, y, actual);
+        assertArrayEquals(expected, actual, "multiply");
+
+        ScalarArrayMath.scaledCopy(x, a, expected);
+        VectorizedArrayMath.scaledCopy(x, a, actual);
+        assertArrayEquals(expected, actual, "scaledCopy");
+
+        ScalarArrayMath.fill(expected, a);
+        VectorizedArrayMath.fill(actual, a);
+        assertArrayEquals(expected, actual, "fill");
+    }
+
+    /**
+     * Bounds the difference between two summation orders of {@code terms}, given the
+     * sum of their finite magnitudes. The bound stays finite, so an infinite or NaN result
+     * on one path only must still fail, and positive, as JUnit requires.
+     */
+    private static double tolerance(double magnitude, int terms) {
+        return Math.max(Double.MIN_VALUE, Math.min(Double.MAX_VALUE, 4 * Math.ulp(1.0) * terms * magnitude));
+    }
+
+    private static double sumTolerance(double[] array) {
+        double magnitude = 0;
+        for (double value : array) {
+            magnitude += Double.isFinite(value) ? Math.abs(value) : 0;
+        }
+        return tolerance(magnitude, array.length);
+    }
+
+    private static double dotTolerance(double[] x, double[] y) {
+        double magnitude = 0;
+        for (int i = 0; i < x.length; i++) {
+            double product = x[i] * y[i];
+            magnitude += Double.isFinite(product) ? Math.abs(product) : 0;
+        }
+        return tolerance(magnitude, x.length);
+    }
+
+    private int[] randomInts(int length) {
+        return random.ints(length).toArray();
+    }
+
+    private double[] randomDoubles(int length) {
+        return random.doubles(length, -1e3, 1e3).toArray();
+    }
+}
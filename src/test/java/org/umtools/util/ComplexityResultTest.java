@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that {@link ComplexityResult} recognizes noisy timings of every complexity
+ * class over sizes spanning several orders of magnitude.
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+class ComplexityResultTest {
+
+    private static final long[] SIZES = {1_000, 3_000, 10_000, 30_000, 100_000, 300_000, 1_000_000, 3_000_000, 10_000_000};
+
+    @ParameterizedTest
+    @EnumSource(ComplexityResult.Complexity.class)
+    void classifiesNoisyTimings(ComplexityResult.Complexity complexity) {
+        Random random = new Random(7);
+        for (int trial = 0; trial < 20; trial++) {
+            double[] times = new double[SIZES.length];
+            for (int i = 0; i < SIZES.length; i++) {
+                times[i] = 3.0 * complexity.apply(SIZES[i]) * (1 + 0.1 * (random.nextDouble() - 0.5));
+            }
+            assertEquals(complexity, new ComplexityResult("fit", SIZES, times).getBestFit());
+        }
+    }
+
+    @Test
+    void fitsCoefficientOfLinearTimings() {
+        double[] times = new double[SIZES.length];
+        for (int i = 0; i < SIZES.length; i++) {
+            times[i] = 2.5 * SIZES[i];
+        }
+        ComplexityResult result = new ComplexityResult("linear", SIZES, times);
+        assertEquals(ComplexityResult.Complexity.O_N, result.getBestFit());
+        assertEquals(2.5, result.getCoefficient(ComplexityResult.Complexity.O_N), 1e-9);
+        assertEquals(0, result.getError(ComplexityResult.Complexity.O_N), 1e-9);
+    }
+
+    @Test
+    void ignoresZeroTimes() {
+        ComplexityResult result = new ComplexityResult("zero", new long[] {10, 100}, new double[] {0, 0});
+        assertEquals(ComplexityResult.Complexity.O_1, result.getBestFit());
+        assertEquals(0, result.getError(ComplexityResult.Complexity.O_1));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks that {@link CsvReader#readAllParallel(Path, int)} reads the same records as
+ * {@link CsvReader#readAll(Path)}, also when splits are cut at quoted line breaks.
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+class CsvReaderTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void parallelMatchesSequentialWithoutQuotedLineBreaks() throws IOException {
+        StringBuilder csv = new StringBuilder("id,name\n");
+        for (int i = 0; i < 10_000; i++) {
+            csv.append(i).append(",\"name, ").append(i).append("\"\n");
+        }
+        Path file = write(csv);
+        CsvReader reader = new CsvReader().withHeader();
+        assertSameRecords(reader.readAll(file), reader.readAllParallel(file, 8));
+    }
+
+    @Test
+    void parallelFallsBackWhenSplitEndsInsideQuotedField() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 2_000; i++) {
+            csv.append(i).append(",\"first line\nsecond line\nthird line\"\n");
+        }
+        Path file = write(csv);
+        CsvReader reader = new CsvReader();
+        List<String[]> sequential = reader.readAll(file);
+        assertEquals(2_000, sequential.size());
+        assertSameRecords(sequential, reader.readAllParallel(file, 8));
+    }
+
+    @Test
+    void parallelRejectsUnterminatedQuote() throws IOException {
+        Path file = write(new StringBuilder("a,b\n1,\"open\n2,3\n"));
+        assertThrows(IllegalArgumentException.class, () -> new CsvReader().readAllParallel(file, 4));
+    }
+
+    private Path write(CharSequence csv) throws IOException {
+        Path file = dir.resolve("data.csv");
+        Files.writeString(file, csv, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static void assertSameRecords(List<String[]> expected, List<String[]> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), actual.get(i));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that records written by {@link CsvWriter} read back unchanged with {@link CsvReader}.
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+class CsvWriterTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripsAwkwardFields() {
+        List<String[]> rows = List.of(
+                new String[] {"plain", "with,comma", "with \"quote\"", "line\nbreak"},
+                new String[] {""},
+                new String[] {"", ""},
+                new String[] {"last"});
+        Path file = dir.resolve("rows.csv");
+        try (CsvWriter writer = new CsvWriter(file, false)) {
+            writer.writeAll(rows);
+            writer.writeRow((String) null);
+        }
+
+        List<String[]> read = new CsvReader().readAll(file);
+        assertEquals(rows.size() + 1, read.size());
+        for (int i = 0; i < rows.size(); i++) {
+            assertArrayEquals(rows.get(i), read.get(i));
+        }
+        assertArrayEquals(new String[] {""}, read.get(rows.size()));
+    }
+}
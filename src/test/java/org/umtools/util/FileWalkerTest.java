@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the file walk and content search behind {@link FileUtils#find(Path, String)} and
+ * {@link FileUtils#search(Path, String, String)}, including line numbers across the
+ * splits of a mapped file.
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+class FileWalkerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void findsMatchingFilesInNestedDirectories() throws IOException {
+        write("A.java", "class A {}\n");
+        write("notes.txt", "class notes\n");
+        write("src/main/B.java", "class B {}\n");
+        write("src/test/C.java", "class C {}\n");
+        write("src/test/data.txt", "data\n");
+
+        assertEquals(Set.of("A.java", "src/main/B.java", "src/test/C.java"), find(dir, "*.java"));
+        assertEquals(Set.of("src/main/B.java", "src/test/C.java"), find(dir, "src/**/*.java"));
+        assertEquals(Set.of(), find(dir, "*.md"));
+    }
+
+    @Test
+    void matchesSingleFileRootByName() throws IOException {
+        Path notes = write("notes.txt", "class notes\n");
+        try (Stream<Path> found = FileUtils.find(notes, "*.java")) {
+            assertEquals(List.of(), found.toList());
+        }
+        try (Stream<Path> found = FileUtils.find(notes, "*.txt")) {
+            assertEquals(List.of(notes), found.toList());
+        }
+        try (Stream<FileMatch> matches = FileUtils.search(notes, "*.java", "class")) {
+            assertEquals(List.of(), matches.toList());
+        }
+        try (Stream<FileMatch> matches = FileUtils.search(notes, "*.txt", "class")) {
+            assertEquals(List.of(new FileMatch(notes, 1, "class notes")), matches.toList());
+        }
+    }
+
+    @Test
+    void searchReportsLineNumbersInEveryFile() throws IOException {
+        Path first = write("a/one.txt", "alpha\r\nneedle here\n\nno\nneedle\n");
+        Path second = write("b/two.txt", "needle at start\nlast line with needle");
+        write("b/skipped.log", "needle\n");
+
+        List<FileMatch> expected = List.of(
+                new FileMatch(first, 2, "needle here"),
+                new FileMatch(first, 5, "needle"),
+                new FileMatch(second, 1, "needle at start"),
+                new FileMatch(second, 2, "last line with needle"));
+        try (Stream<FileMatch> matches = FileUtils.search(dir, "*.txt", "needle")) {
+            assertEquals(expected, sorted(matches));
+        }
+        try (Stream<FileMatch> matches = FileUtils.search(dir, "*.txt", Pattern.compile("ne+dle"))) {
+            assertEquals(expected, sorted(matches));
+        }
+    }
+
+    @Test
+    void countsLinesAcrossMappedSplits() throws IOException {
+        StringBuilder text = new StringBuilder();
+        List<Long> expected = new ArrayList<>();
+        for (int line = 1; line <= 5_000; line++) {
+            if (line % 7 == 0) {
+                text.append("line ").append(line).append(" has the ümlaut needle");
+                expected.add((long) line);
+            } else {
+                text.append("line ").append(line);
+            }
+            text.append(line % 3 == 0 ? "\r\n" : "\n");
+        }
+        Path file = write("big.txt", text.toString());
+        byte[] needle = "ümlaut needle".getBytes(StandardCharsets.UTF_8);
+
+        List<ByteBuffer> splits = FileUtils.mapSplits(file, 16);
+        assertTrue(splits.size() > 1);
+        List<FileMatch> literal = new ArrayList<>();
+        FileWalker.searchLiteral(file, splits, needle, literal);
+        List<FileMatch> pattern = new ArrayList<>();
+        FileWalker.searchPattern(file, splits, Pattern.compile("ümlaut needle"), pattern);
+
+        assertEquals(expected, literal.stream().map(FileMatch::lineNumber).toList());
+        assertEquals(literal, pattern);
+        FileMatch last = literal.get(literal.size() - 1);
+        assertEquals("line 4998 has the ümlaut needle", last.line());
+    }
+
+    private Path write(String relative, String content) throws IOException {
+        Path file = dir.resolve(relative);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private Set<String> find(Path root, String glob) {
+        try (Stream<Path> found = FileUtils.find(root, glob)) {
+            return found.map(file -> root.relativize(file).toString().replace('\\', '/')).collect(Collectors.toSet());
+        }
+    }
+
+    private static List<FileMatch> sorted(Stream<FileMatch> matches) {
+        return matches.sorted(Comparator.comparing((FileMatch match) -> match.file().toString())
+                .thenComparingLong(FileMatch::lineNumber)).toList();
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks which JVM arguments {@link ForkedBenchmarkRunner} passes on to its children.
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+class ForkedBenchmarkRunnerTest {
+
+    @Test
+    void inheritsArgumentsExceptAgentsAndDebugger() {
+        List<String> input = List.of(
+                "--add-modules=jdk.incubator.vector",
+                "-Xmx2g",
+                "-agentlib:jdwp=transport=dt_socket,server=y,address=5005",
+                "-javaagent:/tmp/jacoco.jar",
+                "-agentpath:/opt/profiler.so",
+                "-Xdebug",
+                "-Xrunjdwp:transport=dt_socket",
+                "-Dumtools.input.batch=true");
+        assertEquals(List.of("--add-modules=jdk.incubator.vector", "-Xmx2g", "-Dumtools.input.batch=true"),
+                ForkedBenchmarkRunner.inheritedArguments(input));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.InputMismatchException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks the validated input methods of {@link InputUtils} in batch mode. The calls use
+ * implicit lambdas, so this class also checks that they resolve without ambiguity.
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+class InputUtilsTest {
+
+    @AfterEach
+    void restoreInput() {
+        InputUtils.setInput(System.in);
+        InputUtils.setBatchMode(false);
+    }
+
+    @Test
+    void readsPrimitiveTokensWithImplicitLambdas() {
+        setInput("7\n-9000000000\n2.5\n");
+        assertEquals(7, InputUtils.validatedIntInput("", InputUtils.reader()::nextInt, i -> i > 0, "bad", "invalid"));
+        assertEquals(-9_000_000_000L, InputUtils.validatedLongInput("", () -> InputUtils.reader().nextLong(), l -> l < 0, "bad", "invalid"));
+        assertEquals(2.5, InputUtils.validatedDoubleInput("", InputUtils.reader()::nextDouble, d -> d > 0, "bad", "invalid"));
+    }
+
+    @Test
+    void readsBoxedTokensWithImplicitLambdas() {
+        setInput("3\n");
+        int value = InputUtils.validatedTokenInput("", InputUtils.nextInt(), x -> x > 0, "bad", "invalid");
+        assertEquals(3, value);
+        assertEquals(1, InputUtils.validatedTokenInput("", () -> 1, x -> x > 0, "bad", "invalid"));
+    }
+
+    @Test
+    void rejectsInvalidTokenInBatchMode() {
+        setInput("-1\n");
+        assertThrows(InputMismatchException.class,
+                () -> InputUtils.validatedIntInput("", InputUtils.reader()::nextInt, i -> i > 0, "bad", "invalid"));
+    }
+
+    private static void setInput(String input) {
+        InputUtils.setInput(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the {@link ArrayUtils} operations of {@link OffHeapIntArray} and
+ * {@link OffHeapDoubleArray} against the same operations on heap arrays, for ranges
+ * both smaller and larger than the staging block.
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+class OffHeapArrayTest {
+
+    private static final int LARGE = 5 * OffHeapArray.STAGING_SIZE + 17;
+
+    private final Random random = new Random(11);
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 100, LARGE})
+    void intOperationsMatchHeap(int length) {
+        for (int[] values : new int[][] {
+            random.ints(length).toArray(),
+            random.ints(length, 0, 10).toArray(),
+            ascending(length)
+        }) {
+            try (OffHeapIntArray array = OffHeapIntArray.allocate(length)) {
+                array.copyFrom(0, values, 0, length);
+                int k = Math.min(length, 25);
+                int[] expectedTop = ArrayUtils.topK(values.clone(), k);
+                assertArrayEquals(expectedTop, array.topK(k));
+
+                if (length > 0) {
+                    int[] sorted = values.clone();
+                    Arrays.sort(sorted);
+                    assertEquals(sorted[length / 2], array.select(length / 2));
+                    int[] afterSelect = array.toArray();
+                    for (int i = 0; i < length; i++) {
+                        assertTrue(i < length / 2 ? afterSelect[i] <= sorted[length / 2] : afterSelect[i] >= sorted[length / 2]);
+                    }
+
+                    int pivot = values[length / 3];
+                    long[] bounds = array.partition3(0, length, pivot);
+                    int[] partitioned = array.toArray();
+                    for (int i = 0; i < length; i++) {
+                        int expected = i < bounds[0] ? -1 : i < bounds[1] ? 0 : 1;
+                        assertEquals(expected, Integer.signum(Integer.compare(partitioned[i], pivot)));
+                    }
+                }
+
+                array.sort();
+                int[] expected = values.clone();
+                Arrays.sort(expected);
+                assertArrayEquals(expected, array.toArray());
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 100, LARGE})
+    void doubleOperationsMatchHeap(int length) {
+        double[] values = random.doubles(length, -1, 1).toArray();
+        for (int i = 0; i < length; i += 97) {
+            values[i] = new double[] {Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY}[i % 4];
+        }
+        try (OffHeapDoubleArray array = OffHeapDoubleArray.allocate(length)) {
+            array.copyFrom(0, values, 0, length);
+            int k = Math.min(length, 25);
+            assertArrayEquals(ArrayUtils.topK(values.clone(), k), array.topK(k));
+
+            double[] sorted = values.clone();
+            Arrays.sort(sorted);
+            if (length > 0) {
+                assertEquals(sorted[length - 1], array.select(0, length, length - 1));
+            }
+            array.sort(0, length);
+            assertArrayEquals(sorted, array.toArray());
+        }
+    }
+
+    @Test
+    void sortsSubrangeOnly() {
+        int length = LARGE;
+        int[] values = random.ints(length).toArray();
+        try (OffHeapIntArray array = OffHeapIntArray.allocate(length)) {
+            array.copyFrom(0, values, 0, length);
+            array.sort(10, length - 10);
+            int[] expected = values.clone();
+            Arrays.sort(expected, 10, length - 10);
+            assertArrayEquals(expected, array.toArray());
+        }
+    }
+
+    private static int[] ascending(int length) {
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = i;
+        }
+        return values;
+    }
+}
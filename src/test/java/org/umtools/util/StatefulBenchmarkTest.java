@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that {@link StatefulBenchmark} hands the function a state, and runs its hooks,
+ * at every {@link StatefulBenchmark.Level} on both the timed and the untimed paths. The
+ * function dereferences its state, so a missing state fails the run.
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+class StatefulBenchmarkTest {
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger iterationSetups = new AtomicInteger();
+    private final AtomicInteger iterationTeardowns = new AtomicInteger();
+
+    private StatefulBenchmark<int[], Integer> benchmark(StatefulBenchmark.Level level) {
+        return new StatefulBenchmark<int[], Integer>("state-" + level, level,
+                () -> {
+                    created.incrementAndGet();
+                    return new int[] {1, 2, 3};
+                },
+                state -> state[0] + state[1] + state[2])
+                .setup(StatefulBenchmark.Level.ITERATION, state -> iterationSetups.incrementAndGet())
+                .teardown(StatefulBenchmark.Level.ITERATION, state -> iterationTeardowns.incrementAndGet());
+    }
+
+    @ParameterizedTest
+    @EnumSource(StatefulBenchmark.Level.class)
+    void invokeHasStateAtEveryLevel(StatefulBenchmark.Level level) {
+        StatefulBenchmark<int[], Integer> benchmark = benchmark(level);
+        benchmark.beforeConcurrentTrial();
+        try {
+            for (int i = 0; i < 10; i++) {
+                benchmark.invoke();
+            }
+        } finally {
+            benchmark.afterConcurrentTrial();
+        }
+        assertEquals(1, iterationSetups.get());
+        assertEquals(1, iterationTeardowns.get());
+        assertEquals(level == StatefulBenchmark.Level.INVOCATION ? 10 : 1, created.get());
+    }
+
+    @ParameterizedTest
+    @EnumSource(StatefulBenchmark.Level.class)
+    void throughputRunsAtEveryLevel(StatefulBenchmark.Level level) {
+        ThroughputResult result = BenchmarkRunner.measureThroughput(benchmark(level), 2,
+                BenchmarkRunner.ThreadMode.PLATFORM, Duration.ofMillis(50));
+        assertTrue(result.getOpsPerSecond() > 0);
+        assertEquals(1, iterationSetups.get());
+        assertEquals(1, iterationTeardowns.get());
+    }
+
+    @ParameterizedTest
+    @EnumSource(StatefulBenchmark.Level.class)
+    void timedRunsOneIterationPerInvocationGroup(StatefulBenchmark.Level level) {
+        benchmark(level).invocationsPerIteration(4).measureAvgTime(10);
+        assertEquals(3, iterationSetups.get());
+        assertEquals(3, iterationTeardowns.get());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = StatefulBenchmark.Level.class, names = {"TRIAL", "ITERATION"})
+    void calibratedRunKeepsInvocationsPerIteration(StatefulBenchmark.Level level) {
+        AtomicInteger mostUses = new AtomicInteger();
+        StatefulBenchmark<int[], Integer> benchmark = new StatefulBenchmark<int[], Integer>("uses-" + level, level,
+                () -> new int[1],
+                state -> state[0]++)
+                .setup(StatefulBenchmark.Level.ITERATION, state -> {
+                    iterationSetups.incrementAndGet();
+                    state[0] = 0;
+                })
+                .teardown(StatefulBenchmark.Level.ITERATION, state -> {
+                    iterationTeardowns.incrementAndGet();
+                    mostUses.accumulateAndGet(state[0], Math::max);
+                })
+                .invocationsPerIteration(4);
+        benchmark.measureCalibratedAvgTime(10);
+        long iterations = (benchmark.getTrialInvocations() + 3) / 4;
+        assertEquals(4, mostUses.get());
+        assertEquals(iterations, iterationSetups.get());
+        assertEquals(iterations, iterationTeardowns.get());
+    }
+}
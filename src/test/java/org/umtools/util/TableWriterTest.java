@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Checks how {@link TableWriter} sizes columns and fits cells that are wider than them.
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+class TableWriterTest {
+
+    @Test
+    void wrapsLaterCellsOfEmptySampledColumn() {
+        List<String[]> rows = List.of(new String[] {"1", ""}, new String[] {"2", "xy"});
+        StringWriter out = new StringWriter();
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () ->
+                new TableWriter().sample(1).overflow(TableWriter.Overflow.WRAP)
+                        .write(new String[] {"id", ""}, rows.iterator(), out));
+        assertEquals(String.join("\n",
+                "┌────┬───┐",
+                "│ id │   │",
+                "├────┼───┤",
+                "│ 1  │   │",
+                "│ 2  │ x │",
+                "│    │ y │",
+                "└────┴───┘",
+                ""), out.toString());
+    }
+
+    @Test
+    void ignoresCarriageReturnWhenSizingWrappedCells() {
+        StringWriter out = new StringWriter();
+        new TableWriter().overflow(TableWriter.Overflow.WRAP)
+                .write(new String[] {"a"}, List.<String[]>of(new String[] {"ab\r\ncd"}), out);
+        assertEquals(String.join("\n",
+                "┌────┐",
+                "│ a  │",
+                "├────┤",
+                "│ ab │",
+                "│ cd │",
+                "└────┘",
+                ""), out.toString());
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2025 UMTools contribution.
+ * This program is made available under the terms of the MIT License.
+ */
+package org.umtools.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the regression test of {@link TrialStatistics#isSignificantlySlowerThan(TrialStatistics, double)}.
+ *
+ * @author Ng, Zhi Yang
+ * @since 1.0
+ */
+class TrialStatisticsTest {
+
+    @Test
+    void singleTrialIsNeverSignificant() {
+        assertFalse(TrialStatistics.of(200).isSignificantlySlowerThan(TrialStatistics.of(100), 0.05));
+        assertFalse(TrialStatistics.of(200).isSignificantlySlowerThan(TrialStatistics.of(100, 100, 100), 0.05));
+        assertFalse(TrialStatistics.of(200, 200, 200).isSignificantlySlowerThan(TrialStatistics.of(100), 0.05));
+    }
+
+    @Test
+    void identicalRepeatedTrialsAreSignificantPastThreshold() {
+        assertTrue(TrialStatistics.of(200, 200).isSignificantlySlowerThan(TrialStatistics.of(100, 100), 0.05));
+        assertFalse(TrialStatistics.of(104, 104).isSignificantlySlowerThan(TrialStatistics.of(100, 100), 0.05));
+    }
+
+    @Test
+    void separatesNoiseFromSlowdown() {
+        TrialStatistics baseline = TrialStatistics.of(100, 102, 98, 101, 99);
+        assertTrue(TrialStatistics.of(120, 122, 118, 121, 119).isSignificantlySlowerThan(baseline, 0.05));
+        assertFalse(TrialStatistics.of(80, 140, 100, 130, 90).isSignificantlySlowerThan(baseline, 0.05));
+    }
+}